@@ -2,6 +2,7 @@ package com.example.titto_backend.auth.domain;
 
 import com.example.titto_backend.auth.dto.request.SignUpDTO;
 import com.example.titto_backend.common.BaseEntity;
+import com.example.titto_backend.draft.domain.Draft;
 import com.example.titto_backend.feedback.domain.Feedback;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
 import com.example.titto_backend.matchingBoard.domain.review.MatchingPostReview;
@@ -109,6 +110,10 @@ public class User extends BaseEntity {
     @OneToMany(mappedBy = "feedbackUser", cascade = CascadeType.REMOVE, fetch = FetchType.LAZY)
     private List<Feedback> feedbacks;
 
+    @JsonIgnore
+    @OneToMany(mappedBy = "author", cascade = CascadeType.REMOVE, fetch = FetchType.LAZY)
+    private List<Draft> drafts;
+
     @Setter
     @Column(name = "total_experience")
     private Integer totalExperience; // 사용자의 누적 경험치
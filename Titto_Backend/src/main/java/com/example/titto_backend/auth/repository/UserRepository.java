@@ -5,7 +5,9 @@ import com.example.titto_backend.auth.dto.response.UserRankingDto;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -25,4 +27,40 @@ public interface UserRepository extends JpaRepository<User, Long> {
             + "limit 10"
     )
     List<UserRankingDto> findUserByOrderByTotalExperience();
+
+    // 카운터는 읽고 다시 쓰지 않고 DB에서 바로 증감하여 동시 요청 간 갱신 손실을 막음.
+    // 실행 전 변경 내용을 flush함. 영속성 컨텍스트는 비우지 않으므로 증감된 값이 필요하면 호출한 쪽에서 User를 refresh
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.countQuestion = u.countQuestion + :delta WHERE u.id = :id")
+    int addCountQuestion(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.countAnswer = u.countAnswer + :delta WHERE u.id = :id")
+    int addCountAnswer(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.countAccept = u.countAccept + :delta WHERE u.id = :id")
+    int addCountAccept(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.totalExperience = u.totalExperience + :total,"
+            + " u.currentExperience = u.currentExperience + :current WHERE u.id = :id")
+    int addExperience(@Param("id") Long id, @Param("total") int total, @Param("current") int current);
+
+    // 현재 경험치가 부족하면 0을 반환
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.currentExperience = u.currentExperience - :amount"
+            + " WHERE u.id = :id AND u.currentExperience >= :amount")
+    int deductCurrentExperience(@Param("id") Long id, @Param("amount") int amount);
+
+    // 질문에 달린 답변을 작성자별로 묶어 답변 수와 경험치를 한 번에 차감
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE user u"
+            + " JOIN (SELECT author, COUNT(*) AS answer_count FROM answer WHERE question_id = :questionId"
+            + " GROUP BY author) a ON u.user_id = a.author"
+            + " SET u.count_answer = u.count_answer - a.answer_count,"
+            + " u.total_experience = u.total_experience - a.answer_count * :experience,"
+            + " u.current_experience = u.current_experience - a.answer_count * :experience",
+            nativeQuery = true)
+    int deductAnswerStatsByQuestionId(@Param("questionId") Long questionId, @Param("experience") int experience);
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.repository.UserRepository;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
+import com.example.titto_backend.questionBoard.service.QuestionAuthorChangeNotifier;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,20 +16,13 @@ public class ExperienceService {
 
     private final UserRepository userRepository;
     private final BadgeService badgeService;
+    private final QuestionAuthorChangeNotifier questionAuthorChangeNotifier;
 
     // 경험치 추가
     @Transactional
     public void addExperience(User questionAuthor, User answerAuthor, int experienceToAdd) {
-        if (questionAuthor != answerAuthor) {
-
-            int currentExperience = answerAuthor.getCurrentExperience();
-            int totalExperience = answerAuthor.getTotalExperience();
-
-            currentExperience += experienceToAdd;
-            totalExperience += experienceToAdd;
-
-            answerAuthor.setCurrentExperience(currentExperience);
-            answerAuthor.setTotalExperience(totalExperience);
+        if (!Objects.equals(questionAuthor.getId(), answerAuthor.getId())) {
+            userRepository.addExperience(answerAuthor.getId(), experienceToAdd, experienceToAdd);
         } else {
             throw new CustomException(ErrorCode.CANNOT_ACCEPTED);
         }
@@ -36,14 +31,9 @@ public class ExperienceService {
     // 경험치 차감
     @Transactional
     public void deductExperience(User user, Integer deductedExperience) {
-        Integer currentExperience = user.getCurrentExperience();
-
-        if (deductedExperience > currentExperience) {
+        if (userRepository.deductCurrentExperience(user.getId(), deductedExperience) == 0) {
             throw new CustomException(ErrorCode.INSUFFICIENT_EXPERIENCE);
         }
-
-        Integer newCurrentExperience = currentExperience - deductedExperience;
-        user.setCurrentExperience(newCurrentExperience);
     }
 
     @Transactional
@@ -54,6 +44,7 @@ public class ExperienceService {
 
         if (level < 5) {
             user.setLevel(level + 1);
+            questionAuthorChangeNotifier.authorChanged(userId);
         }
         badgeService.getTittoAuthorityBadge(user);
     }
@@ -19,6 +19,7 @@ import com.example.titto_backend.questionBoard.domain.Question;
 import com.example.titto_backend.questionBoard.dto.AnswerInfoDTO;
 import com.example.titto_backend.questionBoard.repository.AnswerRepository;
 import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import com.example.titto_backend.questionBoard.service.QuestionAuthorChangeNotifier;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -36,6 +37,7 @@ public class UserService {
     private final AnswerRepository answerRepository;
     private final QuestionRepository questionRepository;
     private final MatchingPostReviewRepository matchingPostReviewRepository;
+    private final QuestionAuthorChangeNotifier questionAuthorChangeNotifier;
 
     @Transactional
     public void signUp(SignUpDTO signUpDTO, String email) {
@@ -63,6 +65,7 @@ public class UserService {
 
         if (requestDTO.getNewNickname() != null) {
             user.setNickname(requestDTO.getNewNickname());
+            questionAuthorChangeNotifier.authorChanged(user.getId());
         }
     }
 
@@ -0,0 +1,42 @@
+package com.example.titto_backend.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "커서 기반 페이지 조회")
+public class CursorPage<T> {
+
+    @Schema(description = "조회 결과")
+    private List<T> content;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 커서 (작성일)")
+    private LocalDateTime nextCursorDate;
+
+    @Schema(description = "다음 페이지 커서 (ID)")
+    private Long nextCursorId;
+
+    // 마지막 항목의 (작성일, ID)를 다음 페이지 커서로 사용
+    public static <T> CursorPage<T> of(Slice<T> slice,
+                                       Function<T, LocalDateTime> cursorDate,
+                                       Function<T, Long> cursorId) {
+        List<T> content = slice.getContent();
+        if (!slice.hasNext() || content.isEmpty()) {
+            return new CursorPage<>(content, false, null, null);
+        }
+        T last = content.get(content.size() - 1);
+        return new CursorPage<>(content, true, cursorDate.apply(last), cursorId.apply(last));
+    }
+
+}
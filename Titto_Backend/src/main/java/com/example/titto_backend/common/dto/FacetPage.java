@@ -0,0 +1,20 @@
+package com.example.titto_backend.common.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+// count 쿼리 대신 미리 집계된 글 수로 만든 페이지. 분류별 글 수(facets)를 함께 반환
+@Getter
+public class FacetPage<T> extends PageImpl<T> {
+
+    private final Map<String, Map<String, Long>> facets;
+
+    public FacetPage(List<T> content, Pageable pageable, long total, Map<String, Map<String, Long>> facets) {
+        super(content, pageable, total);
+        this.facets = facets;
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.example.titto_backend.common.event;
+
+import com.example.titto_backend.common.event.BoardChangedEvent.Board;
+import com.example.titto_backend.common.event.BoardChangedEvent.Change;
+import com.example.titto_backend.common.util.TransactionUtil;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardChangeBroadcaster implements MessageListener {
+
+    public static final String CHANNEL = "board:changed";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 커밋된 변경만 전파되도록 트랜잭션 커밋 이후에 발행
+    public void publish(Board board, Change change, Long postId) {
+        String message = new BoardChangedEvent(board, change, postId).serialize();
+        TransactionUtil.afterCommit(() -> stringRedisTemplate.convertAndSend(CHANNEL, message));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            applicationEventPublisher.publishEvent(BoardChangedEvent.deserialize(body));
+        } catch (RuntimeException e) {
+            log.warn("Failed to handle board change message {}", body, e);
+        }
+    }
+
+}
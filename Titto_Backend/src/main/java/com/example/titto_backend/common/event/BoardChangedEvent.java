@@ -0,0 +1,30 @@
+package com.example.titto_backend.common.event;
+
+// 게시글 변경 사항. Redis 채널로 모든 인스턴스에 전파된 뒤 로컬 이벤트로 발행됨
+public record BoardChangedEvent(Board board, Change change, Long postId) {
+
+    public enum Board {
+        QUESTION,
+        MATCHING_POST
+    }
+
+    public enum Change {
+        CREATED,
+        UPDATED,
+        DELETED,
+        ANSWER_CHANGED,
+        VIEWED,
+        // 작성자나 답변 작성자의 닉네임/레벨 변경. 상세 응답에 담긴 작성자 정보만 바뀜
+        AUTHOR_CHANGED
+    }
+
+    public String serialize() {
+        return board + ":" + change + ":" + postId;
+    }
+
+    public static BoardChangedEvent deserialize(String message) {
+        String[] parts = message.split(":");
+        return new BoardChangedEvent(Board.valueOf(parts[0]), Change.valueOf(parts[1]), Long.parseLong(parts[2]));
+    }
+
+}
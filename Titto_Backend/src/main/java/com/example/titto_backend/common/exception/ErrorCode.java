@@ -36,7 +36,9 @@ public enum ErrorCode {
     NO_SEARCH_RESULT(HttpStatus.NOT_FOUND, "검색 결과가 없습니다."),
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "게시물이 존재하지 않습니다."),
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "댓글이 존재하지 않습니다."),
-    MESSAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "메시지가 존재하지 않습니다.");
+    MESSAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "메시지가 존재하지 않습니다."),
+    DRAFT_NOT_FOUND(HttpStatus.NOT_FOUND, "임시 저장된 글이 존재하지 않습니다."),
+    REVISION_NOT_FOUND(HttpStatus.NOT_FOUND, "수정 이력이 존재하지 않습니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -0,0 +1,147 @@
+package com.example.titto_backend.common.facet;
+
+import com.example.titto_backend.common.util.TransactionUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시판별 글 수를 Redis 해시에 보관한다. 필드는 "total" 또는 "분류:값" 형태.
+ * 글 작성/수정/삭제 시 커밋 이후 증감하고, 각 게시판이 주기적으로 DB 집계값으로 덮어써 오차를 바로잡는다.
+ * 재집계는 잠금을 얻은 인스턴스 한 곳에서만 실행하며, 조회 요청은 재집계를 기다리지 않고 마지막으로 읽은 값을 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FacetCountService {
+
+    public static final String TOTAL = "total";
+
+    private static final String KEY_PREFIX = "facetCount:";
+    private static final String SEPARATOR = ":";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(1);
+
+    // (필드, 증감값) 쌍을 한 번에 반영. 해시가 없으면 증감값만 담긴 불완전한 해시가 생기지 않도록 재집계에 맡김
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            for i = 1, #ARGV, 2 do
+                redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return 1
+            """, Long.class);
+
+    // 잠금을 얻은 쪽만 해제하도록 값이 같을 때만 삭제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 게시판별로 마지막으로 읽은 집계값. 해시가 사라진 동안 조회 요청에 대신 사용
+    private final Map<String, FacetCounts> lastKnown = new ConcurrentHashMap<>();
+
+    public static String field(String facet, Enum<?> value) {
+        return facet + SEPARATOR + value.name();
+    }
+
+    public void add(String board, List<String> fields) {
+        move(board, List.of(), fields);
+    }
+
+    public void remove(String board, List<String> fields) {
+        move(board, fields, List.of());
+    }
+
+    // before 필드는 1 감소, after 필드는 1 증가. 양쪽에 모두 있는 필드는 건드리지 않음
+    public void move(String board, List<String> before, List<String> after) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        before.forEach(field -> deltas.merge(field, -1L, Long::sum));
+        after.forEach(field -> deltas.merge(field, 1L, Long::sum));
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>();
+        deltas.forEach((field, delta) -> {
+            args.add(field);
+            args.add(String.valueOf(delta));
+        });
+        TransactionUtil.afterCommit(() ->
+                stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(KEY_PREFIX + board), args.toArray()));
+    }
+
+    public boolean exists(String board) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + board));
+    }
+
+    // 해시가 없으면 비어 있는 Optional
+    public Optional<FacetCounts> find(String board) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(KEY_PREFIX + board);
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long total = 0;
+        Map<String, Map<String, Long>> facets = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String field = entry.getKey().toString();
+            long count = Long.parseLong(entry.getValue().toString());
+            if (TOTAL.equals(field)) {
+                total = count;
+                continue;
+            }
+            String[] parts = field.split(SEPARATOR, 2);
+            facets.computeIfAbsent(parts[0], facet -> new HashMap<>()).put(parts[1], count);
+        }
+        FacetCounts counts = new FacetCounts(total, facets);
+        lastKnown.put(board, counts);
+        return Optional.of(counts);
+    }
+
+    public Optional<FacetCounts> findLastKnown(String board) {
+        return Optional.ofNullable(lastKnown.get(board));
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 DB 집계값으로 해시를 교체한다. 다른 인스턴스가 재집계 중이면 건너뛴다.
+     * 임시 키는 잠금 값으로 구분하여 교체 도중 다른 재집계의 임시 키와 섞이지 않도록 한다.
+     */
+    public void rebuild(String board, Supplier<Map<String, Long>> counter) {
+        String key = KEY_PREFIX + board;
+        String lockKey = key + ":lock";
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, REBUILD_LOCK_TTL))) {
+            return;
+        }
+
+        String tempKey = key + ":rebuild:" + token;
+        try {
+            Map<String, String> values = new HashMap<>();
+            counter.get().forEach((field, count) -> values.put(field, String.valueOf(count)));
+            // 임시 키에 집계값을 쓴 뒤 RENAME으로 교체하여 조회 중에 빈 해시가 보이지 않도록 함
+            stringRedisTemplate.opsForHash().putAll(tempKey, values);
+            stringRedisTemplate.rename(tempKey, key);
+        } finally {
+            stringRedisTemplate.delete(tempKey);
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.example.titto_backend.common.facet;
+
+import java.util.Map;
+
+// 게시판 전체 글 수와 분류(facet)별 글 수. facets는 분류 이름 -> 값 -> 글 수
+public record FacetCounts(long total, Map<String, Map<String, Long>> facets) {
+
+    public long count(String facet, Enum<?> value) {
+        return facets.getOrDefault(facet, Map.of()).getOrDefault(value.name(), 0L);
+    }
+
+}
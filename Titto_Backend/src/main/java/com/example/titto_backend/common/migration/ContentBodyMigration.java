@@ -0,0 +1,129 @@
+package com.example.titto_backend.common.migration;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 본문 테이블 분리 이전에 작성된 글의 본문을 body 테이블로 옮김.
+// ddl-auto는 기존 컬럼을 지우지 않으므로 기존 본문 컬럼을 NULL 허용으로 바꾸고 옮긴 뒤 비워 둠.
+// 컬럼 변경은 새 글 저장이 실패하지 않도록 빈 초기화 중(웹 서버 시작 전)에 하고, 본문 이동은 기동 후에 진행.
+// 옮길 행이 없거나 기존 컬럼이 없는 새 DB에서는 아무 작업도 하지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentBodyMigration implements InitializingBean, ApplicationRunner {
+
+    private static final int PREVIEW_LENGTH = 100;
+    private static final int CHUNK_SIZE = 500;
+
+    private static final List<Target> TARGETS = List.of(
+            new Target("question", "question_id", "question_content", "question_body", "question_body_id"),
+            new Target("matching_post", "matching_post_id", "content", "matching_post_body",
+                    "matching_post_body_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 기존 컬럼이 NOT NULL이면 새 글 INSERT가 실패하므로 변경에 실패하면 기동을 중단
+    @Override
+    public void afterPropertiesSet() {
+        for (Target target : TARGETS) {
+            if ("NO".equals(findLegacyColumnNullable(target))) {
+                jdbcTemplate.execute("ALTER TABLE " + target.table() + " MODIFY " + target.legacyColumn()
+                        + " LONGTEXT NULL");
+                log.info("Made {}.{} nullable", target.table(), target.legacyColumn());
+            }
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (Target target : TARGETS) {
+            if (findLegacyColumnNullable(target) == null) {
+                continue;
+            }
+            try {
+                int moved = migrate(target);
+                if (moved > 0) {
+                    log.info("Moved {} {} bodies to {}", moved, target.table(), target.bodyTable());
+                }
+            } catch (DataAccessException e) {
+                // 옮기지 못한 글은 body_id가 비어 있으므로 다음 기동 때 다시 시도
+                log.error("Failed to move {} bodies to {}", target.table(), target.bodyTable(), e);
+            }
+        }
+    }
+
+    // 기존 컬럼의 NULL 허용 여부(YES/NO). 컬럼이 없으면 null
+    private String findLegacyColumnNullable(Target target) {
+        List<String> nullable = jdbcTemplate.queryForList("SELECT is_nullable FROM information_schema.columns"
+                        + " WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?",
+                String.class, target.table(), target.legacyColumn());
+        return nullable.isEmpty() ? null : nullable.get(0);
+    }
+
+    // 요청을 받는 중에도 새 글의 본문이 생성되므로 본문 ID는 AUTO_INCREMENT로 발급받고, 발급된 ID를 글에 연결
+    private int migrate(Target target) {
+        int moved = 0;
+        long lastId = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT " + target.idColumn() + " AS id, "
+                    + target.legacyColumn() + " AS content FROM " + target.table()
+                    + " WHERE " + target.idColumn() + " > ? AND " + target.legacyColumn() + " IS NOT NULL"
+                    + " AND body_id IS NULL ORDER BY " + target.idColumn() + " LIMIT ?", lastId, CHUNK_SIZE);
+            if (rows.isEmpty()) {
+                return moved;
+            }
+
+            Integer chunk = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (Map<String, Object> row : rows) {
+                    count += moveBody(target, ((Number) row.get("id")).longValue(), (String) row.get("content"));
+                }
+                return count;
+            });
+            moved += chunk == null ? 0 : chunk;
+            lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+        }
+    }
+
+    private int moveBody(Target target, long postId, String content) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO " + target.bodyTable() + " (content) VALUES (?)", Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, content);
+            return statement;
+        }, keyHolder);
+        long bodyId = Objects.requireNonNull(keyHolder.getKey()).longValue();
+
+        int updated = jdbcTemplate.update("UPDATE " + target.table() + " SET body_id = ?"
+                + ", content_preview = LEFT(" + target.legacyColumn() + ", " + PREVIEW_LENGTH + ")"
+                + ", " + target.legacyColumn() + " = NULL"
+                + " WHERE " + target.idColumn() + " = ? AND body_id IS NULL", bodyId, postId);
+        if (updated == 0) {
+            // 그 사이 수정되어 본문이 생긴 글은 새로 넣은 본문을 지움
+            jdbcTemplate.update("DELETE FROM " + target.bodyTable() + " WHERE " + target.bodyIdColumn() + " = ?",
+                    bodyId);
+        }
+        return updated;
+    }
+
+    private record Target(String table, String idColumn, String legacyColumn, String bodyTable,
+                          String bodyIdColumn) {
+    }
+}
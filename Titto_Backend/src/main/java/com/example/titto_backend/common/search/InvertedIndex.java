@@ -0,0 +1,75 @@
+package com.example.titto_backend.common.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// n-gram -> (게시글 ID -> 가중 등장 횟수). 동기화는 SearchIndex가 담당
+class InvertedIndex {
+
+    // 검색어 n-gram 중 이 비율 이상을 포함한 게시글만 결과에 포함
+    private static final double MIN_MATCH_RATIO = 0.5;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+
+    void put(Long id, Map<String, Integer> frequencies) {
+        remove(id);
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, frequency));
+        documentTerms.put(id, Set.copyOf(frequencies.keySet()));
+    }
+
+    void remove(Long id) {
+        Set<String> terms = documentTerms.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    int size() {
+        return documentTerms.size();
+    }
+
+    // 일치한 n-gram 수, tf-idf 점수, 최신 ID 순으로 정렬
+    List<Long> search(Set<String> queryTerms) {
+        Map<Long, Integer> matches = new HashMap<>();
+        Map<Long, Double> scores = new HashMap<>();
+        int documentCount = documentTerms.size();
+
+        for (String term : queryTerms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (double) documentCount / posting.size());
+            posting.forEach((id, frequency) -> {
+                matches.merge(id, 1, Integer::sum);
+                scores.merge(id, idf * (1 + Math.log(frequency)), Double::sum);
+            });
+        }
+
+        int minMatches = (int) Math.ceil(queryTerms.size() * MIN_MATCH_RATIO);
+        List<Long> ids = new ArrayList<>();
+        matches.forEach((id, count) -> {
+            if (count >= minMatches) {
+                ids.add(id);
+            }
+        });
+        ids.sort(Comparator.<Long>comparingInt(matches::get).reversed()
+                .thenComparing(Comparator.<Long>comparingDouble(scores::get).reversed())
+                .thenComparing(Comparator.<Long>reverseOrder()));
+        return ids;
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.example.titto_backend.common.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash 서명과 LSH 밴드로 내용이 비슷한 문서를 찾는다.
+ * 문서를 2-gram 집합으로 보고 64개 해시의 최솟값으로 서명을 만든 뒤, 서명을 4개씩 16개 밴드로 나눠
+ * 한 밴드라도 같은 문서만 후보로 삼는다. 버킷 크기에 상한을 두어 조회 비용이 문서 수와 무관하다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 잠금을 관리한다.
+ */
+public class MinHashIndex {
+
+    private static final int HASH_COUNT = 64;
+    private static final int BAND_COUNT = 16;
+    private static final int ROWS_PER_BAND = HASH_COUNT / BAND_COUNT;
+    private static final int MAX_BUCKET_SIZE = 200;
+    private static final int MAX_CONTENT_LENGTH = 2_000;
+
+    // 해시 함수 i는 (A[i] * x + B[i])의 상위 비트 (곱셈-시프트 해싱)
+    private static final long[] MULTIPLIERS = new long[HASH_COUNT];
+    private static final long[] INCREMENTS = new long[HASH_COUNT];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EEDL);
+        for (int i = 0; i < HASH_COUNT; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1L;
+            INCREMENTS[i] = random.nextLong();
+        }
+    }
+
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final Map<Long, Set<Long>> buckets = new HashMap<>();
+
+    public void put(long id, String title, String content) {
+        remove(id);
+        int[] signature = signature(title, content);
+        if (signature == null) {
+            return;
+        }
+        signatures.put(id, signature);
+        for (int band = 0; band < BAND_COUNT; band++) {
+            Set<Long> bucket = buckets.computeIfAbsent(bandKey(signature, band), key -> new LinkedHashSet<>());
+            bucket.add(id);
+            // 흔한 내용으로 버킷이 커지면 가장 오래 전에 들어온 문서부터 제외 (다른 밴드로는 계속 검색됨)
+            if (bucket.size() > MAX_BUCKET_SIZE) {
+                Iterator<Long> oldest = bucket.iterator();
+                Long evicted = oldest.next();
+                oldest.remove();
+                removeIfUnreachable(evicted);
+            }
+        }
+    }
+
+    public void remove(long id) {
+        int[] signature = signatures.remove(id);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < BAND_COUNT; band++) {
+            long key = bandKey(signature, band);
+            Set<Long> bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(id) && bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    // 모든 밴드의 버킷에서 밀려난 문서는 후보로 찾을 수 없으므로 서명도 지움
+    private void removeIfUnreachable(Long id) {
+        int[] signature = signatures.get(id);
+        for (int band = 0; band < BAND_COUNT; band++) {
+            Set<Long> bucket = buckets.get(bandKey(signature, band));
+            if (bucket != null && bucket.contains(id)) {
+                return;
+            }
+        }
+        signatures.remove(id);
+    }
+
+    // 색인된 문서와 비슷한 문서 ID (자기 자신 제외)
+    public List<Long> similar(long id, double minSimilarity, int limit) {
+        int[] signature = signatures.get(id);
+        if (signature == null) {
+            return List.of();
+        }
+        return similar(signature, id, minSimilarity, limit);
+    }
+
+    // 아직 저장되지 않은 글과 비슷한 문서 ID
+    public List<Long> similar(String title, String content, double minSimilarity, int limit) {
+        int[] signature = signature(title, content);
+        if (signature == null) {
+            return List.of();
+        }
+        return similar(signature, null, minSimilarity, limit);
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    private List<Long> similar(int[] signature, Long excludedId, double minSimilarity, int limit) {
+        Map<Long, Double> candidates = new HashMap<>();
+        for (int band = 0; band < BAND_COUNT; band++) {
+            Set<Long> bucket = buckets.get(bandKey(signature, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (Long candidate : bucket) {
+                if (!candidate.equals(excludedId) && !candidates.containsKey(candidate)) {
+                    candidates.put(candidate, estimate(signature, signatures.get(candidate)));
+                }
+            }
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>();
+        for (Map.Entry<Long, Double> candidate : candidates.entrySet()) {
+            if (candidate.getValue() >= minSimilarity) {
+                ranked.add(candidate);
+            }
+        }
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+        return ranked.stream()
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // 같은 위치의 최솟값이 일치하는 비율은 두 2-gram 집합의 자카드 유사도의 추정치
+    private static double estimate(int[] a, int[] b) {
+        int matches = 0;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            if (a[i] == b[i]) {
+                matches++;
+            }
+        }
+        return (double) matches / HASH_COUNT;
+    }
+
+    private static int[] signature(String title, String content) {
+        String text = (title == null ? "" : title) + " " + (content == null ? ""
+                : content.substring(0, Math.min(content.length(), MAX_CONTENT_LENGTH)));
+        Set<String> shingles = NgramTokenizer.tokenize(text).keySet();
+        if (shingles.isEmpty()) {
+            return null;
+        }
+
+        int[] signature = new int[HASH_COUNT];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String shingle : shingles) {
+            long hash = mix(shingle.hashCode());
+            for (int i = 0; i < HASH_COUNT; i++) {
+                int value = (int) ((MULTIPLIERS[i] * hash + INCREMENTS[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * ROWS_PER_BAND; i < (band + 1) * ROWS_PER_BAND; i++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[i];
+        }
+        return mix(key);
+    }
+
+    // SplitMix64 마무리 단계. String.hashCode의 편향을 섞어 준다
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+}
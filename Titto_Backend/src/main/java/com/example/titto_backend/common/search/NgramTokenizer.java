@@ -0,0 +1,63 @@
+package com.example.titto_backend.common.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 문장을 단어별 2-gram으로 나눈다. 한글은 형태소 분석 없이도 음절 2-gram으로 부분 일치 검색이 가능하다.
+ * 색인할 때는 1-gram도 함께 담아 한 글자 검색어도 부분 일치로 찾을 수 있게 한다.
+ * NFKC 정규화로 자모가 분리된 입력과 전각 문자를 같은 형태로 맞춘다.
+ */
+public final class NgramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private NgramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // n-gram별 등장 횟수. 2-gram보다 짧은 단어는 단어 자체를 사용
+    public static Map<String, Integer> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    // 색인용. 2-gram과 함께 두 글자 이상 단어의 각 글자를 1-gram으로 담음
+    public static Map<String, Integer> tokenizeWithUnigrams(String text) {
+        return tokenize(text, true);
+    }
+
+    private static Map<String, Integer> tokenize(String text, boolean unigrams) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        if (text == null || text.isBlank()) {
+            return frequencies;
+        }
+
+        for (String word : SEPARATOR.split(normalize(text))) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 0) {
+                continue;
+            }
+            if (codePoints.length < GRAM_SIZE) {
+                frequencies.merge(word, 1, Integer::sum);
+                continue;
+            }
+            for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+                frequencies.merge(new String(codePoints, i, GRAM_SIZE), 1, Integer::sum);
+            }
+            if (unigrams) {
+                for (int codePoint : codePoints) {
+                    frequencies.merge(Character.toString(codePoint), 1, Integer::sum);
+                }
+            }
+        }
+        return frequencies;
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.example.titto_backend.common.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 자동완성용 radix trie. 공통 접두사를 한 간선으로 압축하고 자식은 정렬된 배열로 보관한다.
+ * 각 노드가 하위 트리의 가중치 상위 항목을 미리 가지고 있어 조회는 접두사 길이만큼만 탐색한다.
+ * 동기화하지 않으므로 호출하는 쪽에서 잠금을 관리해야 한다.
+ */
+public class PrefixTrie<T> {
+
+    private final int topSize;
+    private final Function<T, Long> idOf;
+    private final Comparator<T> ranking;
+
+    private final Node<T> root = new Node<>("");
+    private final Map<Long, String> keys = new HashMap<>();
+
+    public PrefixTrie(int topSize, Function<T, Long> idOf, ToLongFunction<T> weightOf) {
+        this.topSize = topSize;
+        this.idOf = idOf;
+        this.ranking = Comparator.comparingLong(weightOf).reversed()
+                .thenComparing(idOf, Comparator.reverseOrder());
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    // 같은 ID가 이미 있으면 교체
+    public void put(String key, T value) {
+        remove(idOf.apply(value));
+        keys.put(idOf.apply(value), key);
+
+        Deque<Node<T>> path = new ArrayDeque<>();
+        Node<T> node = root;
+        path.push(node);
+        int index = 0;
+        while (index < key.length()) {
+            Node<T> child = node.child(key.charAt(index));
+            if (child == null) {
+                child = new Node<>(key.substring(index));
+                node.addChild(child);
+                path.push(child);
+                node = child;
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, key, index);
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라지면 공통 부분으로 중간 노드를 만듦
+                Node<T> middle = new Node<>(child.label.substring(0, common));
+                node.removeChild(child.label.charAt(0));
+                child.label = child.label.substring(common);
+                middle.addChild(child);
+                node.addChild(middle);
+                child = middle;
+            }
+            path.push(child);
+            node = child;
+            index += common;
+        }
+
+        node.values.add(value);
+        while (!path.isEmpty()) {
+            updateTop(path.pop());
+        }
+    }
+
+    public void remove(Long id) {
+        String key = keys.remove(id);
+        if (key == null) {
+            return;
+        }
+
+        Deque<Node<T>> path = new ArrayDeque<>();
+        Node<T> node = root;
+        path.push(node);
+        int index = 0;
+        while (index < key.length()) {
+            node = node.child(key.charAt(index));
+            path.push(node);
+            index += node.label.length();
+        }
+        node.values.removeIf(value -> idOf.apply(value).equals(id));
+
+        while (!path.isEmpty()) {
+            Node<T> current = path.pop();
+            Node<T> parent = path.peek();
+            if (parent != null && current.values.isEmpty() && current.childKeys.length == 0) {
+                parent.removeChild(current.label.charAt(0));
+            } else {
+                updateTop(current);
+            }
+        }
+    }
+
+    public List<T> top(String prefix, int limit) {
+        Node<T> node = root;
+        int index = 0;
+        while (index < prefix.length()) {
+            Node<T> child = node.child(prefix.charAt(index));
+            if (child == null) {
+                return List.of();
+            }
+            int remaining = prefix.length() - index;
+            if (remaining <= child.label.length()) {
+                // 접두사가 간선 중간에서 끝나는 경우
+                return child.label.regionMatches(0, prefix, index, remaining) ? limit(child.top, limit) : List.of();
+            }
+            if (!prefix.startsWith(child.label, index)) {
+                return List.of();
+            }
+            node = child;
+            index += child.label.length();
+        }
+        return limit(node.top, limit);
+    }
+
+    private void updateTop(Node<T> node) {
+        List<T> candidates = new ArrayList<>(node.values);
+        for (Node<T> child : node.children) {
+            candidates.addAll(child.top);
+        }
+        candidates.sort(ranking);
+        node.top = List.copyOf(candidates.subList(0, Math.min(topSize, candidates.size())));
+    }
+
+    private List<T> limit(List<T> values, int limit) {
+        return values.subList(0, Math.min(limit, values.size()));
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = 0;
+        while (length < label.length() && offset + length < key.length()
+                && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static final class Node<T> {
+
+        private String label;
+        private char[] childKeys = new char[0];
+        private Node<T>[] children = newArray(0);
+        private final List<T> values = new ArrayList<>(1);
+        private List<T> top = List.of();
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node<T> child(char key) {
+            int position = Arrays.binarySearch(childKeys, key);
+            return position < 0 ? null : children[position];
+        }
+
+        private void addChild(Node<T> child) {
+            int position = -(Arrays.binarySearch(childKeys, child.label.charAt(0)) + 1);
+            char[] keys = new char[childKeys.length + 1];
+            Node<T>[] nodes = newArray(children.length + 1);
+            System.arraycopy(childKeys, 0, keys, 0, position);
+            System.arraycopy(children, 0, nodes, 0, position);
+            keys[position] = child.label.charAt(0);
+            nodes[position] = child;
+            System.arraycopy(childKeys, position, keys, position + 1, childKeys.length - position);
+            System.arraycopy(children, position, nodes, position + 1, children.length - position);
+            childKeys = keys;
+            children = nodes;
+        }
+
+        private void removeChild(char key) {
+            int position = Arrays.binarySearch(childKeys, key);
+            if (position < 0) {
+                return;
+            }
+            char[] keys = new char[childKeys.length - 1];
+            Node<T>[] nodes = newArray(children.length - 1);
+            System.arraycopy(childKeys, 0, keys, 0, position);
+            System.arraycopy(children, 0, nodes, 0, position);
+            System.arraycopy(childKeys, position + 1, keys, position, childKeys.length - position - 1);
+            System.arraycopy(children, position + 1, nodes, position, children.length - position - 1);
+            childKeys = keys;
+            children = nodes;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] newArray(int length) {
+            return (Node<T>[]) new Node[length];
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.example.titto_backend.common.search;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 색인을 DB에서 새로 만들어 통째로 교체하는 동안 바뀐 게시글 ID를 모아 둔다.
+ * 그 사이의 변경은 교체 전 색인에만 반영되므로 교체가 끝난 뒤 {@link #finish(Consumer)}로 다시 반영한다.
+ */
+public class RebuildChangeTracker {
+
+    private final Set<Long> changedWhileRebuilding = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    public void start() {
+        changedWhileRebuilding.clear();
+        rebuilding = true;
+    }
+
+    // 변경을 색인에 반영하기 전에 호출
+    public void changed(Long id) {
+        if (rebuilding) {
+            changedWhileRebuilding.add(id);
+        }
+    }
+
+    // 재구성이 끝나면 성공 여부와 관계없이 호출
+    public void finish(Consumer<Long> refresh) {
+        rebuilding = false;
+        changedWhileRebuilding.forEach(refresh);
+        changedWhileRebuilding.clear();
+    }
+
+}
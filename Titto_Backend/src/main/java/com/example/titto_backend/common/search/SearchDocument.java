@@ -0,0 +1,5 @@
+package com.example.titto_backend.common.search;
+
+// 검색 색인 대상 게시글 (ID, 제목, 본문)
+public record SearchDocument(Long id, String title, String content) {
+}
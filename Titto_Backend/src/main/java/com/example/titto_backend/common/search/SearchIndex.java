@@ -0,0 +1,139 @@
+package com.example.titto_backend.common.search;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 게시판 하나의 인메모리 역색인. 제목과 본문의 n-gram을 색인하며 제목은 가중치를 더 준다.
+ * 재구성 중에는 새 색인을 따로 만들고, 그 사이 반영된 변경은 양쪽에 적용한 뒤 교체한다.
+ * 첫 재구성이 끝나기 전에는 색인이 비어 있으므로 호출하는 쪽은 {@link #isReady()}로 확인하고 DB 검색을 사용한다.
+ */
+public class SearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int MAX_CONTENT_LENGTH = 5_000;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private InvertedIndex index = new InvertedIndex();
+    private InvertedIndex rebuilding;
+    private final Set<Long> changedWhileRebuilding = new HashSet<>();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void put(SearchDocument document) {
+        Map<String, Integer> frequencies = frequencies(document);
+        lock.writeLock().lock();
+        try {
+            index.put(document.id(), frequencies);
+            if (rebuilding != null) {
+                rebuilding.put(document.id(), frequencies);
+                changedWhileRebuilding.add(document.id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            index.remove(id);
+            if (rebuilding != null) {
+                rebuilding.remove(id);
+                changedWhileRebuilding.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SearchResult search(String keyword, Pageable pageable) {
+        Set<String> terms = NgramTokenizer.tokenize(keyword).keySet();
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        List<Long> ids;
+        lock.readLock().lock();
+        try {
+            ids = index.search(terms);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        return new SearchResult(List.copyOf(ids.subList(from, to)), ids.size());
+    }
+
+    public void startRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = new InvertedIndex();
+            changedWhileRebuilding.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // DB에서 읽은 뒤 변경된 게시글은 이미 최신 상태로 반영되어 있으므로 건너뜀
+    public void addToRebuild(List<SearchDocument> documents) {
+        for (SearchDocument document : documents) {
+            Map<String, Integer> frequencies = frequencies(document);
+            lock.writeLock().lock();
+            try {
+                if (rebuilding != null && !changedWhileRebuilding.contains(document.id())) {
+                    rebuilding.put(document.id(), frequencies);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public int finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding != null) {
+                index = rebuilding;
+                ready = true;
+            }
+            rebuilding = null;
+            changedWhileRebuilding.clear();
+            return index.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = null;
+            changedWhileRebuilding.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<String, Integer> frequencies(SearchDocument document) {
+        String content = document.content();
+        if (content != null && content.length() > MAX_CONTENT_LENGTH) {
+            content = content.substring(0, MAX_CONTENT_LENGTH);
+        }
+        Map<String, Integer> frequencies = NgramTokenizer.tokenizeWithUnigrams(content);
+        NgramTokenizer.tokenizeWithUnigrams(document.title())
+                .forEach((term, frequency) -> frequencies.merge(term, frequency * TITLE_WEIGHT, Integer::sum));
+        return frequencies;
+    }
+
+}
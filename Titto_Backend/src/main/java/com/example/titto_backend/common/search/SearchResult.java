@@ -0,0 +1,7 @@
+package com.example.titto_backend.common.search;
+
+import java.util.List;
+
+// 요청한 페이지의 게시글 ID(순위순)와 전체 검색 결과 수
+public record SearchResult(List<Long> ids, long total) {
+}
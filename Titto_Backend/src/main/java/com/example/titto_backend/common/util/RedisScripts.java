@@ -0,0 +1,18 @@
+package com.example.titto_backend.common.util;
+
+import java.util.List;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+public final class RedisScripts {
+
+    private RedisScripts() {
+    }
+
+    // 여러 값을 돌려주는 Lua 스크립트. DefaultRedisScript는 List.class만 받으므로 원소 타입은 여기서 한 번만 지정
+    @SuppressWarnings("unchecked")
+    public static RedisScript<List<Object>> list(String script) {
+        return new DefaultRedisScript<>(script, (Class<List<Object>>) (Class<?>) List.class);
+    }
+
+}
@@ -0,0 +1,5 @@
+package com.example.titto_backend.common.viewcount;
+
+// counted: 이번 조회가 집계되었는지, pendingCount: 아직 DB에 반영되지 않은 조회수
+public record ViewCountResult(boolean counted, long pendingCount) {
+}
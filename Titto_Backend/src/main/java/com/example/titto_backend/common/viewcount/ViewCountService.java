@@ -0,0 +1,180 @@
+package com.example.titto_backend.common.viewcount;
+
+import com.example.titto_backend.common.event.BoardChangeBroadcaster;
+import com.example.titto_backend.common.event.BoardChangedEvent.Change;
+import com.example.titto_backend.common.util.RedisScripts;
+import com.example.titto_backend.common.util.TransactionUtil;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    // 게시글별 일일 비트맵(userId 오프셋)으로 중복을 거르고, 처음 본 사용자만 대기 해시에 누적
+    private static final RedisScript<List<Object>> RECORD_SCRIPT = RedisScripts.list("""
+            if redis.call('SETBIT', KEYS[1], ARGV[1], 1) == 0 then
+                if redis.call('TTL', KEYS[1]) < 0 then
+                    redis.call('EXPIRE', KEYS[1], ARGV[2])
+                end
+                return {1, redis.call('HINCRBY', KEYS[2], ARGV[3], 1)}
+            end
+            return {0, tonumber(redis.call('HGET', KEYS[2], ARGV[3]) or '0')}
+            """);
+
+    // 비트맵 만료 시각을 자정 이후로 분산시켜 한꺼번에 만료되지 않도록 함
+    private static final long EXPIRE_SPREAD_SECONDS = Duration.ofHours(6).toSeconds();
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 대기 해시를 읽고 비우는 작업을 원자적으로 수행
+    private static final RedisScript<List<Object>> DRAIN_SCRIPT = RedisScripts.list("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            return entries
+            """);
+
+    // 반영된 조회수 기록. 여러 인스턴스가 동시에 반영할 수 있으므로 기존 값보다 클 때만 덮어씀
+    private static final RedisScript<Long> RECORD_FLUSHED_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+                local current = tonumber(redis.call('GET', KEYS[i]) or '-1')
+                if tonumber(ARGV[i + 1]) > current then
+                    redis.call('SET', KEYS[i], ARGV[i + 1], 'PX', ARGV[1])
+                else
+                    redis.call('PEXPIRE', KEYS[i], ARGV[1])
+                end
+            end
+            return 1
+            """, Long.class);
+
+    // 반영 기록은 캐시된 상세 정보의 조회수를 보정하는 데만 쓰므로 상세 캐시보다 오래 남기만 하면 됨
+    private static final Duration FLUSHED_TTL = Duration.ofHours(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardChangeBroadcaster boardChangeBroadcaster;
+
+    public ViewCountResult record(ViewTarget target, Long postId, Long userId) {
+        List<Object> result = stringRedisTemplate.execute(RECORD_SCRIPT,
+                List.of(viewersKey(target, postId, LocalDate.now()), target.pendingKey()),
+                String.valueOf(userId), String.valueOf(calculateExpireSeconds()), String.valueOf(postId));
+        return new ViewCountResult(((Number) result.get(0)).longValue() == 1L,
+                ((Number) result.get(1)).longValue());
+    }
+
+    // 오늘 게시글을 조회한 순 사용자 수
+    public long countTodayViewers(ViewTarget target, Long postId) {
+        String key = viewersKey(target, postId, LocalDate.now());
+        Long count = stringRedisTemplate.execute(
+                (RedisCallback<Long>) connection -> connection.stringCommands().bitCount(key.getBytes()));
+        return count == null ? 0 : count;
+    }
+
+    // 마지막으로 DB에 반영된 조회수. 최근 FLUSHED_TTL 동안 반영된 적이 없으면 null
+    public Long findFlushedCount(ViewTarget target, Long postId) {
+        String count = stringRedisTemplate.opsForValue().get(target.flushedKey(postId));
+        return count == null ? null : Long.valueOf(count);
+    }
+
+    public void removed(ViewTarget target, Long postId) {
+        TransactionUtil.afterCommit(() -> stringRedisTemplate.delete(target.flushedKey(postId)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void removeLegacyFlushedCounts() {
+        try {
+            for (ViewTarget target : ViewTarget.values()) {
+                stringRedisTemplate.unlink(target.legacyFlushedKey());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove legacy flushed view counts", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:10000}")
+    public void flush() {
+        for (ViewTarget target : ViewTarget.values()) {
+            flush(target);
+        }
+    }
+
+    private void flush(ViewTarget target) {
+        List<Object> entries = stringRedisTemplate.execute(DRAIN_SCRIPT, List.of(target.pendingKey()));
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> deltas = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i += 2) {
+            long postId = Long.parseLong(entries.get(i).toString());
+            long delta = Long.parseLong(entries.get(i + 1).toString());
+            deltas.add(new Object[]{delta, postId});
+        }
+
+        try {
+            String sql = String.format("UPDATE %s SET view_count = view_count + ? WHERE %s = ?",
+                    target.getTable(), target.getIdColumn());
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, deltas));
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} view counts, restoring pending deltas", target, e);
+            deltas.forEach(delta -> stringRedisTemplate.opsForHash()
+                    .increment(target.pendingKey(), delta[1].toString(), (Long) delta[0]));
+            return;
+        }
+
+        try {
+            recordFlushed(target, deltas);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record flushed {} view counts", target, e);
+        }
+        deltas.forEach(delta -> boardChangeBroadcaster.publish(target.getBoard(), Change.VIEWED, (Long) delta[1]));
+    }
+
+    // 캐시된 상세 정보는 그대로 두고 조회수만 Redis에서 최신 값으로 덮어쓸 수 있도록 반영 결과를 기록
+    private void recordFlushed(ViewTarget target, List<Object[]> deltas) {
+        List<Object> postIds = deltas.stream().map(delta -> delta[1]).toList();
+        String sql = String.format("SELECT %s, view_count FROM %s WHERE %s IN (%s)", target.getIdColumn(),
+                target.getTable(), target.getIdColumn(), String.join(",", Collections.nCopies(postIds.size(), "?")));
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(FLUSHED_TTL.toMillis()));
+        jdbcTemplate.query(sql, rs -> {
+            keys.add(target.flushedKey(rs.getLong(1)));
+            args.add(String.valueOf(rs.getLong(2)));
+        }, postIds.toArray());
+        if (!keys.isEmpty()) {
+            stringRedisTemplate.execute(RECORD_FLUSHED_SCRIPT, keys, args.toArray());
+        }
+    }
+
+    private String viewersKey(ViewTarget target, Long postId, LocalDate day) {
+        return String.format("%s:viewers:%d:%s", target.getKeyPrefix(), postId, day.format(DAY_FORMAT));
+    }
+
+    private static long calculateExpireSeconds() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime midnight = now.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+        return ChronoUnit.SECONDS.between(now, midnight) + ThreadLocalRandom.current().nextLong(EXPIRE_SPREAD_SECONDS);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.example.titto_backend.common.viewcount;
+
+import com.example.titto_backend.common.event.BoardChangedEvent.Board;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum ViewTarget {
+
+    QUESTION("QuestionBoardViewCount", "question", "question_id", Board.QUESTION),
+    MATCHING_POST("matchingPostViewCount", "matching_post", "matching_post_id", Board.MATCHING_POST);
+
+    private final String keyPrefix;
+    private final String table;
+    private final String idColumn;
+    private final Board board;
+
+    public String pendingKey() {
+        return keyPrefix + ":pending";
+    }
+
+    // 게시글별로 마지막으로 DB에 반영된 조회수
+    public String flushedKey(Long postId) {
+        return keyPrefix + ":flushed:" + postId;
+    }
+
+    // 게시글별 키로 바꾸기 전에 쓰던 HASH. 만료 없이 계속 커지므로 시작 시 지움
+    public String legacyFlushedKey() {
+        return keyPrefix + ":flushed";
+    }
+
+}
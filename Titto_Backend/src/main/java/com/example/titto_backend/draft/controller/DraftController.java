@@ -0,0 +1,82 @@
+package com.example.titto_backend.draft.controller;
+
+import com.example.titto_backend.draft.domain.DraftType;
+import com.example.titto_backend.draft.dto.DraftDTO;
+import com.example.titto_backend.draft.service.DraftService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.security.Principal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/drafts")
+@Tag(name = "Draft Controller", description = "글 임시 저장 관련 API")
+public class DraftController {
+
+    private final DraftService draftService;
+
+    @PutMapping("/{type}")
+    @Operation(
+            summary = "임시 저장",
+            description = "작성 중인 질문 또는 매칭 글을 임시 저장합니다. 입력 중 자동 저장 용도로 자주 호출해도 됩니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<DraftDTO.Response> saveDraft(@PathVariable("type") DraftType type,
+                                                       @RequestBody DraftDTO.Request request,
+                                                       Principal principal) {
+        return ResponseEntity.ok(draftService.save(principal.getName(), type, request));
+    }
+
+    @GetMapping("/{type}")
+    @Operation(
+            summary = "임시 저장 글 조회",
+            description = "마지막으로 임시 저장한 글을 조회합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "404", description = "임시 저장된 글이 없음")
+            })
+    public ResponseEntity<DraftDTO.Response> getDraft(@PathVariable("type") DraftType type, Principal principal) {
+        return ResponseEntity.ok(draftService.find(principal.getName(), type));
+    }
+
+    @PostMapping("/{type}/publish")
+    @Operation(
+            summary = "임시 저장 글 게시",
+            description = "임시 저장한 글을 게시하고 임시 저장 글을 삭제합니다",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "게시 성공"),
+                    @ApiResponse(responseCode = "400", description = "제목, 내용, 카테고리 중 비어 있는 값이 있음"),
+                    @ApiResponse(responseCode = "404", description = "임시 저장된 글이 없음")
+            })
+    public ResponseEntity<String> publishDraft(@PathVariable("type") DraftType type, Principal principal) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(draftService.publish(principal, type));
+    }
+
+    @DeleteMapping("/{type}")
+    @Operation(
+            summary = "임시 저장 글 삭제",
+            description = "임시 저장한 글을 삭제합니다",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "삭제 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<Void> deleteDraft(@PathVariable("type") DraftType type, Principal principal) {
+        draftService.delete(principal.getName(), type);
+        return ResponseEntity.noContent().build();
+    }
+
+}
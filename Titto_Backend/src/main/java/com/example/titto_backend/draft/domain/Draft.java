@@ -0,0 +1,71 @@
+package com.example.titto_backend.draft.domain;
+
+import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자별, 게시판별로 하나씩 보관하는 임시 저장 글. 작성 중에는 Redis에만 쓰고 입력이 멈춘 뒤에 반영
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "draft", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_draft_author_type", columnNames = {"author", "type"})
+})
+public class Draft extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "draft_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "author", nullable = false)
+    private User author;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private DraftType type;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "content", columnDefinition = "LONGTEXT")
+    private String content;
+
+    @Column(name = "category")
+    private String category;
+
+    @Column(name = "send_experience")
+    private Integer sendExperience;
+
+    @Column(name = "saved_at", nullable = false)
+    private LocalDateTime savedAt;
+
+    public Draft(User author, DraftType type) {
+        this.author = author;
+        this.type = type;
+    }
+
+    public void update(String title, String content, String category, Integer sendExperience,
+                       LocalDateTime savedAt) {
+        this.title = title;
+        this.content = content;
+        this.category = category;
+        this.sendExperience = sendExperience;
+        this.savedAt = savedAt;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.titto_backend.draft.domain;
+
+public enum DraftType {
+    QUESTION,
+    MATCHING_POST
+}
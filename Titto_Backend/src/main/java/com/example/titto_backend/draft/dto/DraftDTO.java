@@ -0,0 +1,72 @@
+package com.example.titto_backend.draft.dto;
+
+import com.example.titto_backend.draft.domain.Draft;
+import com.example.titto_backend.draft.domain.DraftType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class DraftDTO {
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "임시 저장")
+    public static class Request {
+
+        @Schema(description = "제목")
+        private String title;
+
+        @Schema(description = "내용")
+        private String content;
+
+        @Schema(description = "카테고리 (질문은 학부, 매칭 글은 매칭 카테고리)",
+                example = "SOFTWARE, STUDY")
+        private String category;
+
+        @Schema(description = "줄 포인트 (질문만 해당)")
+        private Integer sendExperience;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "임시 저장 글 조회")
+    public static class Response {
+
+        @Schema(description = "게시판 종류")
+        private DraftType type;
+
+        @Schema(description = "제목")
+        private String title;
+
+        @Schema(description = "내용")
+        private String content;
+
+        @Schema(description = "카테고리")
+        private String category;
+
+        @Schema(description = "줄 포인트")
+        private Integer sendExperience;
+
+        @Schema(description = "마지막 저장 시각")
+        private LocalDateTime savedAt;
+
+        public Response(Draft draft) {
+            this.type = draft.getType();
+            this.title = draft.getTitle();
+            this.content = draft.getContent();
+            this.category = draft.getCategory();
+            this.sendExperience = draft.getSendExperience();
+            this.savedAt = draft.getSavedAt();
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.example.titto_backend.draft.repository;
+
+import com.example.titto_backend.draft.domain.Draft;
+import com.example.titto_backend.draft.domain.DraftType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DraftRepository extends JpaRepository<Draft, Long> {
+
+    Optional<Draft> findByAuthorIdAndType(Long authorId, DraftType type);
+
+    @Modifying
+    @Query("DELETE FROM Draft d WHERE d.author.id = :authorId AND d.type = :type")
+    int deleteByAuthorIdAndType(@Param("authorId") Long authorId, @Param("type") DraftType type);
+}
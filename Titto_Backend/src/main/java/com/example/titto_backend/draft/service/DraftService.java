@@ -0,0 +1,266 @@
+package com.example.titto_backend.draft.service;
+
+import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.auth.repository.UserRepository;
+import com.example.titto_backend.common.exception.CustomException;
+import com.example.titto_backend.common.exception.ErrorCode;
+import com.example.titto_backend.draft.domain.Draft;
+import com.example.titto_backend.draft.domain.DraftType;
+import com.example.titto_backend.draft.dto.DraftDTO;
+import com.example.titto_backend.draft.repository.DraftRepository;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Status;
+import com.example.titto_backend.matchingBoard.dto.request.MatchingPostRequest.MatchingPostCreateRequestDto;
+import com.example.titto_backend.matchingBoard.service.matchingBoard.MatchingPostService;
+import com.example.titto_backend.questionBoard.domain.Department;
+import com.example.titto_backend.questionBoard.dto.QuestionDTO;
+import com.example.titto_backend.questionBoard.service.QuestionService;
+import jakarta.validation.Validator;
+import java.security.Principal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 글 임시 저장. 자동 저장 요청은 Redis 해시 하나를 덮어쓰기만 하고, 저장 시각을 dirty ZSET에 기록한다.
+ * 일정 시간 입력이 없던 임시 글만 주기적으로 DB에 반영하므로 연속된 자동 저장은 DB 쓰기 한 번으로 합쳐진다.
+ * 게시하면 작성 요청과 같은 검증을 거쳐 기존 질문/매칭 글 작성 로직으로 등록한 뒤 임시 글을 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DraftService {
+
+    private static final String KEY_PREFIX = "draft:";
+    private static final String DIRTY_KEY = KEY_PREFIX + "dirty";
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String CATEGORY = "category";
+    private static final String SEND_EXPERIENCE = "sendExperience";
+    private static final String SAVED_AT = "savedAt";
+
+    // 이전 값을 지우고 새 값으로 덮어쓴 뒤 마지막 저장 시각을 dirty ZSET에 기록
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], unpack(ARGV, 4))
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DraftRepository draftRepository;
+    private final UserRepository userRepository;
+    private final QuestionService questionService;
+    private final MatchingPostService matchingPostService;
+    private final Validator validator;
+
+    @Value("${draft.idle-timeout-ms:30000}")
+    private long idleTimeoutMs;
+
+    @Value("${draft.ttl-hours:24}")
+    private long ttlHours;
+
+    public DraftDTO.Response save(String email, DraftType type, DraftDTO.Request request) {
+        User user = getUser(email);
+        long now = System.currentTimeMillis();
+
+        List<String> args = new ArrayList<>(List.of(
+                String.valueOf(Duration.ofHours(ttlHours).toSeconds()), String.valueOf(now), member(type, user.getId()),
+                SAVED_AT, String.valueOf(now)));
+        addField(args, TITLE, request.getTitle());
+        addField(args, CONTENT, request.getContent());
+        addField(args, CATEGORY, request.getCategory());
+        addField(args, SEND_EXPERIENCE, request.getSendExperience());
+        stringRedisTemplate.execute(SAVE_SCRIPT, List.of(key(type, user.getId()), DIRTY_KEY), args.toArray());
+
+        return DraftDTO.Response.builder()
+                .type(type)
+                .title(request.getTitle())
+                .content(request.getContent())
+                .category(request.getCategory())
+                .sendExperience(request.getSendExperience())
+                .savedAt(toDateTime(now))
+                .build();
+    }
+
+    // Redis에 남아 있으면 가장 최근 내용, 만료되었으면 DB에 반영된 내용
+    @Transactional(readOnly = true)
+    public DraftDTO.Response find(String email, DraftType type) {
+        User user = getUser(email);
+        return findBuffered(type, user.getId())
+                .orElseGet(() -> draftRepository.findByAuthorIdAndType(user.getId(), type)
+                        .map(DraftDTO.Response::new)
+                        .orElseThrow(() -> new CustomException(ErrorCode.DRAFT_NOT_FOUND)));
+    }
+
+    @Transactional
+    public void delete(String email, DraftType type) {
+        discard(type, getUser(email).getId());
+    }
+
+    @Transactional
+    public String publish(Principal principal, DraftType type) {
+        DraftDTO.Response draft = find(principal.getName(), type);
+        if (isBlank(draft.getTitle()) || isBlank(draft.getContent()) || isBlank(draft.getCategory())) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        String message;
+        if (type == DraftType.QUESTION) {
+            validateEnum(Department.class, draft.getCategory().toUpperCase());
+            QuestionDTO.Request request = QuestionDTO.Request.builder()
+                    .title(draft.getTitle())
+                    .content(draft.getContent())
+                    .department(draft.getCategory())
+                    .sendExperience(draft.getSendExperience() == null ? 0 : draft.getSendExperience())
+                    .build();
+            validate(request);
+            message = questionService.save(principal.getName(), request);
+        } else {
+            validateEnum(Category.class, draft.getCategory());
+            MatchingPostCreateRequestDto request = new MatchingPostCreateRequestDto(
+                    draft.getCategory(), draft.getTitle(), draft.getContent(), Status.RECRUITING.name());
+            validate(request);
+            matchingPostService.createMatchingPost(principal, request);
+            message = "게시물이 성공적으로 등록되었습니다.";
+        }
+
+        discard(type, getUser(principal.getName()).getId());
+        return message;
+    }
+
+    // 마지막 저장 이후 idleTimeout이 지난 임시 글만 DB에 반영
+    @Scheduled(fixedDelayString = "${draft.flush-interval-ms:10000}")
+    public void flushIdleDrafts() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMs;
+        Set<String> members = stringRedisTemplate.opsForZSet()
+                .rangeByScore(DIRTY_KEY, Double.NEGATIVE_INFINITY, cutoff, 0, FLUSH_BATCH_SIZE);
+        if (members == null) {
+            return;
+        }
+
+        for (String member : members) {
+            // 먼저 제거한 인스턴스만 반영하여 여러 인스턴스가 같은 글을 중복 저장하지 않도록 함
+            Long removed = stringRedisTemplate.opsForZSet().remove(DIRTY_KEY, member);
+            if (removed == null || removed == 0) {
+                continue;
+            }
+            try {
+                persist(member);
+            } catch (RuntimeException e) {
+                stringRedisTemplate.opsForZSet().addIfAbsent(DIRTY_KEY, member, System.currentTimeMillis());
+                log.warn("Failed to persist draft {}, retrying later", member, e);
+            }
+        }
+    }
+
+    private void persist(String member) {
+        int separator = member.lastIndexOf(':');
+        DraftType type = DraftType.valueOf(member.substring(0, separator));
+        Long userId = Long.valueOf(member.substring(separator + 1));
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(key(type, userId));
+        if (fields.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Draft draft = draftRepository.findByAuthorIdAndType(userId, type)
+                    .orElseGet(() -> new Draft(userRepository.getReferenceById(userId), type));
+            draft.update((String) fields.get(TITLE), (String) fields.get(CONTENT), (String) fields.get(CATEGORY),
+                    fields.containsKey(SEND_EXPERIENCE) ? Integer.valueOf((String) fields.get(SEND_EXPERIENCE)) : null,
+                    toDateTime(Long.parseLong((String) fields.get(SAVED_AT))));
+            draftRepository.saveAndFlush(draft);
+            // 반영하는 동안 게시/삭제로 Redis의 임시 글이 지워졌으면 지운 글을 되살리지 않도록 롤백
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key(type, userId)))) {
+                status.setRollbackOnly();
+            }
+        });
+    }
+
+    private Optional<DraftDTO.Response> findBuffered(DraftType type, Long userId) {
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(key(type, userId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(DraftDTO.Response.builder()
+                .type(type)
+                .title((String) fields.get(TITLE))
+                .content((String) fields.get(CONTENT))
+                .category((String) fields.get(CATEGORY))
+                .sendExperience(fields.containsKey(SEND_EXPERIENCE)
+                        ? Integer.valueOf((String) fields.get(SEND_EXPERIENCE)) : null)
+                .savedAt(toDateTime(Long.parseLong((String) fields.get(SAVED_AT))))
+                .build());
+    }
+
+    // Redis를 먼저 비운 뒤 DB에서 삭제. 동시에 반영 중인 persist는 커밋 전에 Redis 키가 사라진 것을 보고 롤백함
+    private void discard(DraftType type, Long userId) {
+        stringRedisTemplate.opsForZSet().remove(DIRTY_KEY, member(type, userId));
+        stringRedisTemplate.delete(key(type, userId));
+        draftRepository.deleteByAuthorIdAndType(userId, type);
+    }
+
+    // 컨트롤러의 요청 검증과 같은 기준으로 임시 글로 만든 작성 요청을 검증
+    private void validate(Object request) {
+        if (!validator.validate(request).isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private static <E extends Enum<E>> void validateEnum(Class<E> type, String value) {
+        try {
+            Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private User getUser(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    private static void addField(List<String> args, String field, Object value) {
+        if (value != null) {
+            args.add(field);
+            args.add(String.valueOf(value));
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static String key(DraftType type, Long userId) {
+        return KEY_PREFIX + member(type, userId);
+    }
+
+    private static String member(DraftType type, Long userId) {
+        return type.name() + ":" + userId;
+    }
+
+}
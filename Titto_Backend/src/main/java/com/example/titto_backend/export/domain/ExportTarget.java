@@ -0,0 +1,15 @@
+package com.example.titto_backend.export.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportTarget {
+    QUESTION("questions"),
+    ANSWER("answers"),
+    MATCHING_POST("matching-posts");
+
+    // 내보내기 파일 이름
+    private final String fileName;
+}
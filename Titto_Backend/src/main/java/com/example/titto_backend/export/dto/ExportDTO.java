@@ -0,0 +1,62 @@
+package com.example.titto_backend.export.dto;
+
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
+import com.example.titto_backend.questionBoard.domain.Department;
+import com.example.titto_backend.questionBoard.domain.Status;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 분석용 내보내기 한 줄(JSON Lines)에 해당하는 행. 엔티티를 거치지 않도록 JPQL에서 바로 생성
+public class ExportDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class QuestionRow {
+        private Long id;
+        private Long authorId;
+        private Department department;
+        private Status status;
+        private String title;
+        private String content;
+        private Integer sendExperience;
+        private boolean answerAccepted;
+        private Integer answerCount;
+        private Integer viewCount;
+        private LocalDateTime createDate;
+        private LocalDateTime updateDate;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AnswerRow {
+        private Long id;
+        private Long questionId;
+        private Long authorId;
+        private String content;
+        private boolean accepted;
+        private int voteCount;
+        private LocalDateTime createDate;
+        private LocalDateTime updateDate;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MatchingPostRow {
+        private Long id;
+        private Long authorId;
+        private Category category;
+        private com.example.titto_backend.matchingBoard.domain.matchingBoard.Status status;
+        private String title;
+        private String content;
+        private Integer viewCount;
+        private Integer reviewCount;
+        private LocalDateTime createDate;
+        private LocalDateTime updateDate;
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.example.titto_backend.export.service;
+
+import com.example.titto_backend.export.domain.ExportTarget;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매일 질문, 답변, 매칭 글을 {directory}/{yyyyMMdd}/{이름}.jsonl.gz 파일로 내보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardExportJob {
+
+    private static final String LOCK_KEY_PREFIX = "export:lock:";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BoardExportService boardExportService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${export.directory:exports}")
+    private String directory;
+
+    @Scheduled(cron = "${export.cron:0 0 4 * * *}")
+    public void exportAll() {
+        String day = LocalDate.now().format(DAY_FORMAT);
+        // 여러 인스턴스 중 먼저 잠금을 얻은 한 곳에서만 실행
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + day, "1", LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+
+        Path dir = Path.of(directory, day);
+        for (ExportTarget target : ExportTarget.values()) {
+            try {
+                export(target, dir);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to export {}", target, e);
+            }
+        }
+    }
+
+    private void export(ExportTarget target, Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Path file = dir.resolve(target.getFileName() + ".jsonl.gz");
+        // 완성된 파일만 보이도록 임시 파일에 쓴 뒤 이동
+        Path temp = dir.resolve(target.getFileName() + ".jsonl.gz.tmp");
+
+        long rows;
+        try (OutputStream out = new GZIPOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), BUFFER_SIZE)) {
+            rows = boardExportService.export(target, out);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Exported {} {} rows to {}", rows, target, file);
+    }
+
+}
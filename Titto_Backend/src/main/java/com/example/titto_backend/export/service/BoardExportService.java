@@ -0,0 +1,52 @@
+package com.example.titto_backend.export.service;
+
+import com.example.titto_backend.export.domain.ExportTarget;
+import com.example.titto_backend.matchingBoard.repository.matchingBoard.MatchingPostRepository;
+import com.example.titto_backend.questionBoard.repository.AnswerRepository;
+import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시판 데이터를 JSON Lines로 내보낸다. 행을 DTO로 바로 받아 한 줄씩 기록하므로 엔티티가 영속성 컨텍스트에
+ * 쌓이지 않고, 전체 행 수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardExportService {
+
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final MatchingPostRepository matchingPostRepository;
+    private final ObjectMapper objectMapper;
+
+    // 스트림은 트랜잭션 안에서만 읽을 수 있음. 기록한 행 수를 반환
+    @Transactional(readOnly = true)
+    public long export(ExportTarget target, OutputStream out) throws IOException {
+        try (Stream<?> rows = openRows(target)) {
+            long count = 0;
+            Iterator<?> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(iterator.next()));
+                out.write('\n');
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private Stream<?> openRows(ExportTarget target) {
+        return switch (target) {
+            case QUESTION -> questionRepository.streamExportRows();
+            case ANSWER -> answerRepository.streamExportRows();
+            case MATCHING_POST -> matchingPostRepository.streamExportRows();
+        };
+    }
+
+}
@@ -1,11 +1,15 @@
 package com.example.titto_backend.matchingBoard.controller;
 
+import com.example.titto_backend.common.dto.CursorPage;
+import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostListItemDto;
 import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostPagingResponseDto;
 import com.example.titto_backend.matchingBoard.service.matchingBoard.MatchingBoardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -66,4 +70,20 @@ public class MatchingBoardController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/feed")
+    @Operation(
+            summary = "매칭 게시판 피드 조회",
+            description = "커서 기반으로 게시글을 조회합니다. 카테고리와 모집 상태로 거를 수 있으며 첫 페이지는 커서 없이 요청합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<CursorPage<MatchingPostListItemDto>> getFeed(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+            @RequestParam(required = false) Long cursorId) {
+        return ResponseEntity.ok(matchingBoardService.findFeed(category, status, cursorDate, cursorId));
+    }
+
 }
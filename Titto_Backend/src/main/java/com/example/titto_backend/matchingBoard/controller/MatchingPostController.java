@@ -64,6 +64,18 @@ public class MatchingPostController {
         return new ResponseEntity<>(responseDto, HttpStatus.OK);
     }
 
+    @GetMapping("/get/{matchingPostId}/viewers")
+    @Operation(
+            summary = "매칭 게시글 오늘의 순 조회자 수 조회",
+            description = "오늘 매칭 게시글을 조회한 사용자 수를 조회합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<Long> getTodayViewers(@PathVariable Long matchingPostId) {
+        return ResponseEntity.ok(matchingPostService.countTodayViewers(matchingPostId));
+    }
+
     @PutMapping("/update/{matchingPostId}")
     @Operation(
             summary = "매칭 게시글 수정",
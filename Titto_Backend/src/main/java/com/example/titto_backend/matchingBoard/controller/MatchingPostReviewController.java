@@ -1,6 +1,7 @@
 package com.example.titto_backend.matchingBoard.controller;
 
 
+import com.example.titto_backend.common.dto.CursorPage;
 import com.example.titto_backend.matchingBoard.dto.request.matchingPostReviewRequest.MatchingPostReviewCreateRequestDto;
 import com.example.titto_backend.matchingBoard.dto.request.matchingPostReviewRequest.MatchingPostReviewDeleteRequestDto;
 import com.example.titto_backend.matchingBoard.dto.request.matchingPostReviewRequest.MatchingPostReviewUpdateRequestDto;
@@ -13,8 +14,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,6 +27,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -66,6 +70,22 @@ public class MatchingPostReviewController {
         return ResponseEntity.ok(responseDtoList);
     }
 
+    @GetMapping("/page/{postId}")
+    @Operation(
+            summary = "매칭 게시글 리뷰 페이지 조회",
+            description = "커서 기반으로 특정 매칭 게시글의 리뷰를 작성 순으로 조회합니다. 첫 페이지는 커서 없이 요청합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<CursorPage<MatchingPostReviewResponseDto>> getMatchingBoardReviewPage(
+            @PathVariable Long postId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+            @RequestParam(required = false) Long cursorId) {
+        return ResponseEntity.ok(matchingBoardReviewService.findReviewPage(postId, cursorDate, cursorId));
+    }
+
     @PutMapping("/update/{reviewId}")
     @Operation(
             summary = "매칭 게시글 리뷰 수정",
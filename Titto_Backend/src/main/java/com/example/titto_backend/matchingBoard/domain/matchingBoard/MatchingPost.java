@@ -2,17 +2,22 @@ package com.example.titto_backend.matchingBoard.domain.matchingBoard;
 
 import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.common.BaseEntity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,8 +29,18 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_matching_post_create_date_id", columnList = "create_date, matchingPost_id"),
+        @Index(name = "idx_matching_post_category_create_date_id",
+                columnList = "category, create_date, matchingPost_id"),
+        @Index(name = "idx_matching_post_status_create_date_id", columnList = "status, create_date, matchingPost_id"),
+        @Index(name = "idx_matching_post_category_status_create_date_id",
+                columnList = "category, status, create_date, matchingPost_id")
+})
 public class MatchingPost extends BaseEntity {
 
+    public static final int PREVIEW_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "matchingPost_id")
@@ -47,16 +62,22 @@ public class MatchingPost extends BaseEntity {
     @Column(name = "title", nullable = false)
     private String title;
 
-    @Lob
-    @Column(name = "content", columnDefinition = "LONGTEXT", nullable = false)
-    private String content;
+    // 본문은 상세 조회에서만 필요하므로 별도 테이블에 두고, 목록에는 미리보기만 사용
+    @JsonIgnore
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "body_id")
+    private MatchingPostBody body;
+
+    @Column(name = "content_preview", length = PREVIEW_LENGTH)
+    private String contentPreview;
 
+    // 조회수와 댓글 수는 DB에서 바로 증감하므로 엔티티 수정 시 메모리의 이전 값으로 덮어쓰지 않도록 UPDATE에서 제외
     @Setter
-    @Column(name = "view_count", columnDefinition = "integer default 0")
+    @Column(name = "view_count", updatable = false, columnDefinition = "integer default 0")
     private Integer viewCount;
 
     @Setter
-    @Column(name = "review_count", columnDefinition = "integer default 0")
+    @Column(name = "review_count", updatable = false, columnDefinition = "integer default 0")
     private Integer reviewCount;
 
     @PrePersist
@@ -68,21 +89,34 @@ public class MatchingPost extends BaseEntity {
     public void update(Category category, String title, String content, Status status) {
         this.category = category;
         this.title = title;
-        this.content = content;
+        // 본문 이전이 끝나지 않은 글은 본문 행이 없으므로 수정 시 새로 만듦
+        if (this.body == null) {
+            this.body = new MatchingPostBody(content);
+        } else {
+            this.body.setContent(content);
+        }
+        this.contentPreview = preview(content);
         this.status = status;
     }
 
-    public void updateViewCount() {
-        this.viewCount++;
+    // 목록 응답에서 엔티티가 직렬화될 때 본문 테이블을 건드리지 않도록 제외
+    @JsonIgnore
+    public String getContent() {
+        return body == null ? null : body.getContent();
     }
 
-    public void increaseReviewCount() {
-        this.reviewCount++;
+    private static String preview(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, PREVIEW_LENGTH);
     }
 
-    public void decreaseReviewCount() {
-        if (this.reviewCount != null && this.reviewCount > 0) {
-            this.reviewCount--;
+    public static class MatchingPostBuilder {
+        public MatchingPostBuilder content(String content) {
+            this.body = new MatchingPostBody(content);
+            this.contentPreview = preview(content);
+            return this;
         }
     }
 
@@ -0,0 +1,35 @@
+package com.example.titto_backend.matchingBoard.domain.matchingBoard;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 매칭 글 본문. 목록 조회와 리뷰 수 갱신이 matching_post 행만 읽고 쓰도록 별도 테이블에 저장
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "matching_post_body")
+public class MatchingPostBody {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "matchingPostBody_id")
+    private Long id;
+
+    @Setter
+    @Lob
+    @Column(name = "content", columnDefinition = "LONGTEXT", nullable = false)
+    private String content;
+
+    public MatchingPostBody(String content) {
+        this.content = content;
+    }
+}
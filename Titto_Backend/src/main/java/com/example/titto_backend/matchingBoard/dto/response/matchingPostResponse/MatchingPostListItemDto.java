@@ -0,0 +1,54 @@
+package com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse;
+
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// 목록 응답을 가볍게 유지하기 위해 TEXT 컬럼인 작성자 프로필은 담지 않음. 프로필은 상세 조회에서 제공
+@Schema(description = "매칭 게시판 목록 조회")
+public class MatchingPostListItemDto {
+
+    @Schema(description = "게시글 ID")
+    private Long matchingPostId;
+
+    @Schema(description = "제목")
+    private String title;
+
+    @Schema(description = "내용 미리보기")
+    private String contentPreview;
+
+    @Schema(description = "카테고리")
+    private Category category;
+
+    @Schema(description = "모집 상태")
+    private Status status;
+
+    @Schema(description = "조회수")
+    private Integer viewCount;
+
+    @Schema(description = "댓글 개수")
+    private Integer reviewCount;
+
+    @Schema(description = "생성 날짜")
+    private LocalDateTime createDate;
+
+    @Schema(description = "수정 날짜")
+    private LocalDateTime updateDate;
+
+    @Schema(description = "작성자 ID")
+    private Long authorId;
+
+    @Schema(description = "작성자 닉네임")
+    private String authorNickname;
+
+    @Schema(description = "사용자 레벨")
+    private Integer level;
+
+}
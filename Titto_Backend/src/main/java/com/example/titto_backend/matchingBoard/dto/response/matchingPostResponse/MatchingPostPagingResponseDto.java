@@ -1,6 +1,5 @@
 package com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse;
 
-import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @AllArgsConstructor
@@ -15,19 +15,26 @@ import java.util.List;
 @Builder
 public class MatchingPostPagingResponseDto {
 
-    private List<MatchingPost> content;
+    private List<MatchingPostListItemDto> content;
     private int totalPages;
     private long totalElements;
     private int pageNumber;
     private boolean existNextPage;
+    private Map<String, Map<String, Long>> facets;
 
-    public static MatchingPostPagingResponseDto from(Page<MatchingPost> postPages) {
+    public static MatchingPostPagingResponseDto from(Page<MatchingPostListItemDto> postPages) {
+        return from(postPages, null);
+    }
+
+    public static MatchingPostPagingResponseDto from(Page<MatchingPostListItemDto> postPages,
+                                                     Map<String, Map<String, Long>> facets) {
         return MatchingPostPagingResponseDto.builder()
                 .content(postPages.getContent())
                 .totalPages(postPages.getTotalPages())
                 .totalElements(postPages.getTotalElements())
                 .pageNumber(postPages.getNumber())
                 .existNextPage(postPages.hasNext())
+                .facets(facets)
                 .build();
     }
 
@@ -28,6 +28,11 @@ public class MatchingPostResponseDto {
 
     public static MatchingPostResponseDto of(
             MatchingPost matchingPost) {
+        return of(matchingPost, matchingPost.getViewCount());
+    }
+
+    public static MatchingPostResponseDto of(
+            MatchingPost matchingPost, Integer viewCount) {
         return new MatchingPostResponseDto(
                 matchingPost.getMatchingPostId(),
                 matchingPost.getUser().getId(),
@@ -37,7 +42,7 @@ public class MatchingPostResponseDto {
                 String.valueOf(matchingPost.getStatus()),
                 matchingPost.getTitle(),
                 matchingPost.getContent(),
-                matchingPost.getViewCount(),
+                viewCount,
                 matchingPost.getReviewCount(),
                 matchingPost.getUpdateDate(),
                 matchingPost.getUser().getLevel());
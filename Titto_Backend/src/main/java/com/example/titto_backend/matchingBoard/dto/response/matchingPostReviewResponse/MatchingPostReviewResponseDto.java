@@ -11,24 +11,25 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+// 리뷰 목록 응답을 가볍게 유지하기 위해 TEXT 컬럼인 작성자 프로필은 담지 않음
 public class MatchingPostReviewResponseDto {
 
     private Long reviewAuthorId;
     private Long reviewId;
     private String reviewAuthor;
-    private String profile;
     private String content;
     private LocalDateTime updateDate;
     private Integer level;
+    private LocalDateTime createDate;
 
     public MatchingPostReviewResponseDto(MatchingPostReview matchingPostReview) {
         this.reviewAuthorId = matchingPostReview.getReviewAuthor().getId();
         this.reviewId = matchingPostReview.getReview_id();
         this.reviewAuthor = matchingPostReview.getReviewAuthor().getNickname();
-        this.profile = matchingPostReview.getReviewAuthor().getProfile();
         this.content = matchingPostReview.getContent();
         this.updateDate = matchingPostReview.getUpdateDate();
         this.level = matchingPostReview.getReviewAuthor().getLevel();
+        this.createDate = matchingPostReview.getCreateDate();
     }
 
 }
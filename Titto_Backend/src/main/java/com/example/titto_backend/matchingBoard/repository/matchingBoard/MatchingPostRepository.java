@@ -1,29 +1,173 @@
 package com.example.titto_backend.matchingBoard.repository.matchingBoard;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.common.search.SearchDocument;
+import com.example.titto_backend.export.dto.ExportDTO;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Status;
 import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostInfoDto;
+import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostListItemDto;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface MatchingPostRepository extends JpaRepository<MatchingPost, Long> {
-    Page<MatchingPost> findByTitleContaining(String keyword, Pageable pageable);
+    // 목록 조회: 작성자를 조인해 목록에 필요한 컬럼만 한 번의 쿼리로 조회
+    String LIST_ITEM_SELECT =
+            "SELECT new com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostListItemDto("
+                    + "a.matchingPostId, a.title, a.contentPreview, a.category, a.status, a.viewCount, a.reviewCount,"
+                    + " a.createDate, a.updateDate, u.id, u.nickname, u.level) "
+                    + "FROM MatchingPost a JOIN a.user u";
+
+    // 전체 글 수는 MatchingPostFacetCounter의 집계값을 사용하므로 count 쿼리 없이 조회
+    @Query(LIST_ITEM_SELECT + " ORDER BY a.createDate DESC, a.matchingPostId DESC")
+    List<MatchingPostListItemDto> findListItems(Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + " WHERE a.category = :category ORDER BY a.createDate DESC, a.matchingPostId DESC")
+    List<MatchingPostListItemDto> findListItemsByCategory(@Param("category") Category category, Pageable pageable);
+
+    // 검색 색인이 준비되기 전에 사용하는 제목 부분 일치 검색
+    @Query(value = LIST_ITEM_SELECT + " WHERE a.title LIKE CONCAT('%', :keyword, '%')"
+            + " ORDER BY a.createDate DESC, a.matchingPostId DESC",
+            countQuery = "SELECT COUNT(a) FROM MatchingPost a WHERE a.title LIKE CONCAT('%', :keyword, '%')")
+    Page<MatchingPostListItemDto> findListItemsByTitleContaining(@Param("keyword") String keyword, Pageable pageable);
+
+    // 커서 기반 피드: (작성일, ID) 역순으로 마지막으로 받은 글 다음부터 조회. 필터 조합별 복합 인덱스 사용
+    String FEED_ORDER = " ORDER BY a.createDate DESC, a.matchingPostId DESC";
+    String FEED_CURSOR = "(a.createDate < :cursorDate"
+            + " OR (a.createDate = :cursorDate AND a.matchingPostId < :cursorId))";
+
+    @Query(LIST_ITEM_SELECT + FEED_ORDER)
+    Slice<MatchingPostListItemDto> findFeed(Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + " WHERE " + FEED_CURSOR + FEED_ORDER)
+    Slice<MatchingPostListItemDto> findFeedAfter(@Param("cursorDate") LocalDateTime cursorDate,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + " WHERE a.category = :category" + FEED_ORDER)
+    Slice<MatchingPostListItemDto> findFeedByCategory(@Param("category") Category category, Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + " WHERE a.category = :category AND " + FEED_CURSOR + FEED_ORDER)
+    Slice<MatchingPostListItemDto> findFeedByCategoryAfter(@Param("category") Category category,
+                                                           @Param("cursorDate") LocalDateTime cursorDate,
+                                                           @Param("cursorId") Long cursorId,
+                                                           Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + " WHERE a.status = :status" + FEED_ORDER)
+    Slice<MatchingPostListItemDto> findFeedByStatus(@Param("status") Status status, Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + " WHERE a.status = :status AND " + FEED_CURSOR + FEED_ORDER)
+    Slice<MatchingPostListItemDto> findFeedByStatusAfter(@Param("status") Status status,
+                                                         @Param("cursorDate") LocalDateTime cursorDate,
+                                                         @Param("cursorId") Long cursorId,
+                                                         Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + " WHERE a.category = :category AND a.status = :status" + FEED_ORDER)
+    Slice<MatchingPostListItemDto> findFeedByCategoryAndStatus(@Param("category") Category category,
+                                                               @Param("status") Status status,
+                                                               Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + " WHERE a.category = :category AND a.status = :status AND " + FEED_CURSOR
+            + FEED_ORDER)
+    Slice<MatchingPostListItemDto> findFeedByCategoryAndStatusAfter(@Param("category") Category category,
+                                                                    @Param("status") Status status,
+                                                                    @Param("cursorDate") LocalDateTime cursorDate,
+                                                                    @Param("cursorId") Long cursorId,
+                                                                    Pageable pageable);
 
-    Page<MatchingPost> findByCategory(Category category, Pageable pageable);
+    @Query(LIST_ITEM_SELECT + " WHERE a.matchingPostId IN :ids")
+    List<MatchingPostListItemDto> findListItemsByIdIn(@Param("ids") List<Long> ids);
+
+    // 검색 결과처럼 ID 순서가 정해진 목록을 그 순서대로 조회. 삭제된 글은 제외
+    default List<MatchingPostListItemDto> findListItemsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, MatchingPostListItemDto> items = findListItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(MatchingPostListItemDto::getMatchingPostId, Function.identity()));
+        return ids.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
     @Query("SELECT new com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostInfoDto("
-            + "a.matchingPostId, a.title, a.content, "
+            + "a.matchingPostId, a.title, a.contentPreview, "
             + "a.createDate, a.viewCount, a.reviewCount, a.category) "
             + "FROM MatchingPost a"
             + " WHERE a.user = :user")
     List<MatchingPostInfoDto> findMatchingPostsInfoByAuthor(@Param("user") User user);
 
     List<MatchingPost> findMatchingPostByUser(User user);
-}
\ No newline at end of file
+
+    // 상세 조회: 게시물, 작성자, 본문을 한 번의 쿼리로 조회
+    @Query("SELECT a FROM MatchingPost a JOIN FETCH a.user LEFT JOIN FETCH a.body WHERE a.matchingPostId = :id")
+    Optional<MatchingPost> findDetailById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE MatchingPost a SET a.reviewCount = a.reviewCount + 1 WHERE a.matchingPostId = :id")
+    int increaseReviewCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE MatchingPost a SET a.reviewCount = a.reviewCount - 1"
+            + " WHERE a.matchingPostId = :id AND a.reviewCount > 0")
+    int decreaseReviewCount(@Param("id") Long id);
+
+    // 삭제는 댓글 수와 상관없이 일정한 수의 쿼리로 처리 (댓글 삭제 -> 게시물 삭제 -> 본문 삭제)
+    @Modifying
+    @Query("DELETE FROM MatchingPost a WHERE a.matchingPostId = :id")
+    int deleteMatchingPostById(@Param("id") Long id);
+
+    @Query("SELECT a.body.id FROM MatchingPost a WHERE a.matchingPostId = :id")
+    Optional<Long> findBodyIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM MatchingPostBody b WHERE b.id = :bodyId")
+    int deleteBodyById(@Param("bodyId") Long bodyId);
+
+    // 검색 색인 재구성용 ID 순 청크 조회. 본문을 아직 옮기지 않은 글(ContentBodyMigration)은 미리보기로 대신함
+    @Query("SELECT new com.example.titto_backend.common.search.SearchDocument(a.matchingPostId, a.title,"
+            + " COALESCE(b.content, a.contentPreview, ''))"
+            + " FROM MatchingPost a LEFT JOIN a.body b WHERE a.matchingPostId > :lastId ORDER BY a.matchingPostId")
+    List<SearchDocument> findSearchDocuments(@Param("lastId") long lastId, Pageable pageable);
+
+    @Query("SELECT new com.example.titto_backend.common.search.SearchDocument(a.matchingPostId, a.title,"
+            + " COALESCE(b.content, a.contentPreview, ''))"
+            + " FROM MatchingPost a LEFT JOIN a.body b WHERE a.matchingPostId = :id")
+    Optional<SearchDocument> findSearchDocument(@Param("id") Long id);
+
+    @Query("SELECT a.category, COUNT(a) FROM MatchingPost a GROUP BY a.category")
+    List<Object[]> countGroupByCategory();
+
+    @Query("SELECT a.status, COUNT(a) FROM MatchingPost a GROUP BY a.status")
+    List<Object[]> countGroupByStatus();
+
+    // 내보내기용 전체 조회 (MySQL 스트리밍)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.example.titto_backend.export.dto.ExportDTO$MatchingPostRow("
+            + "a.matchingPostId, a.user.id, a.category, a.status, a.title,"
+            + " COALESCE(b.content, a.contentPreview, ''), a.viewCount,"
+            + " a.reviewCount, a.createDate, a.updateDate)"
+            + " FROM MatchingPost a LEFT JOIN a.body b ORDER BY a.matchingPostId")
+    Stream<ExportDTO.MatchingPostRow> streamExportRows();
+}
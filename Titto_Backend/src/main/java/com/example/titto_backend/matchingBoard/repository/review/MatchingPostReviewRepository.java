@@ -3,15 +3,41 @@ package com.example.titto_backend.matchingBoard.repository.review;
 import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
 import com.example.titto_backend.matchingBoard.domain.review.MatchingPostReview;
+import com.example.titto_backend.matchingBoard.dto.response.matchingPostReviewResponse.MatchingPostReviewResponseDto;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface MatchingPostReviewRepository extends JpaRepository<MatchingPostReview, Long> {
     List<MatchingPostReview> findAllByMatchingPost(MatchingPost matchingPost);
 
-    void deleteAllByMatchingPost(MatchingPost matchingPost);
+    @Modifying
+    @Query("DELETE FROM MatchingPostReview r WHERE r.matchingPost.matchingPostId = :postId")
+    int deleteAllByMatchingPostId(@Param("postId") Long postId);
 
     List<MatchingPostReview> findMatchingPostReviewsByReviewAuthor(User user);
+
+    // 게시글을 불러오지 않고 matchingPost_id로 리뷰와 작성자를 한 번에 조회. 작성 순으로 커서 기반 페이지 조회
+    String REVIEW_SELECT =
+            "SELECT new com.example.titto_backend.matchingBoard.dto.response.matchingPostReviewResponse.MatchingPostReviewResponseDto("
+                    + "u.id, r.review_id, u.nickname, r.content, r.updateDate, u.level, r.createDate) "
+                    + "FROM MatchingPostReview r JOIN r.reviewAuthor u WHERE r.matchingPost.matchingPostId = :postId";
+
+    @Query(REVIEW_SELECT + " ORDER BY r.createDate, r.review_id")
+    Slice<MatchingPostReviewResponseDto> findPageByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    @Query(REVIEW_SELECT
+            + " AND (r.createDate > :cursorDate OR (r.createDate = :cursorDate AND r.review_id > :cursorId))"
+            + " ORDER BY r.createDate, r.review_id")
+    Slice<MatchingPostReviewResponseDto> findPageByPostIdAfter(@Param("postId") Long postId,
+                                                               @Param("cursorDate") LocalDateTime cursorDate,
+                                                               @Param("cursorId") Long cursorId,
+                                                               Pageable pageable);
 }
@@ -1,14 +1,21 @@
 package com.example.titto_backend.matchingBoard.service.matchingBoard;
 
+import com.example.titto_backend.common.dto.CursorPage;
+import com.example.titto_backend.common.facet.FacetCounts;
+import com.example.titto_backend.common.search.SearchResult;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
-import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Status;
+import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostListItemDto;
 import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostPagingResponseDto;
 import com.example.titto_backend.matchingBoard.repository.matchingBoard.MatchingPostRepository;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,32 +23,79 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MatchingBoardService {
 
+    private static final int PAGE_SIZE = 10;
+    private static final int FEED_SIZE = 10;
+
     private final MatchingPostRepository matchingPostRepository;
+    private final MatchingPostFacetCounter matchingPostFacetCounter;
+    private final MatchingPostSearchIndexer matchingPostSearchIndexer;
+    private final MatchingPostRecentBuffer matchingPostRecentBuffer;
 
-    @Transactional
+    // 앞쪽 페이지는 최신 글 버퍼에서 바로 응답하므로 DB 트랜잭션을 열지 않음
     public MatchingPostPagingResponseDto findAllPosts(int page) {
-        Pageable pageable = PageRequest.of(page, 10, Sort.by("createDate").descending());
-        Page<MatchingPost> matchingPosts = matchingPostRepository.findAll(pageable);
-        return MatchingPostPagingResponseDto.from(matchingPosts);
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE);
+        FacetCounts counts = matchingPostFacetCounter.counts();
+        List<MatchingPostListItemDto> content = matchingPostRecentBuffer.findPage(null, page, PAGE_SIZE)
+                .orElseGet(() -> matchingPostRepository.findListItems(pageable));
+        Page<MatchingPostListItemDto> matchingPosts = new PageImpl<>(content, pageable, counts.total());
+        return MatchingPostPagingResponseDto.from(matchingPosts, counts.facets());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public MatchingPostPagingResponseDto searchByKeyWord(int page,
                                                          String keyword) {
 
-        Pageable pageable = PageRequest.of(page, 10, Sort.by("createDate").descending());
-        Page<MatchingPost> matchingPosts = matchingPostRepository.findByTitleContaining(keyword, pageable);
-        return MatchingPostPagingResponseDto.from(matchingPosts);
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE);
+        if (!matchingPostSearchIndexer.isReady()) {
+            return MatchingPostPagingResponseDto.from(
+                    matchingPostRepository.findListItemsByTitleContaining(keyword, pageable));
+        }
+        SearchResult result = matchingPostSearchIndexer.search(keyword, pageable);
+        List<MatchingPostListItemDto> content = matchingPostRepository.findListItemsInOrder(result.ids());
+        return MatchingPostPagingResponseDto.from(new PageImpl<>(content, pageable, result.total()));
     }
 
-    @Transactional
     public MatchingPostPagingResponseDto findByCategory(int page,
                                                         String category) {
-        Pageable pageable = PageRequest.of(page, 10, Sort.by("createDate").descending());
-        Page<MatchingPost> matchingPosts = matchingPostRepository.findByCategory(Category.valueOf(category), pageable);
-        return MatchingPostPagingResponseDto.from(matchingPosts);
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE);
+        Category matchingCategory = Category.valueOf(category);
+        FacetCounts counts = matchingPostFacetCounter.counts();
+        List<MatchingPostListItemDto> content = matchingPostRecentBuffer.findPage(matchingCategory, page, PAGE_SIZE)
+                .orElseGet(() -> matchingPostRepository.findListItemsByCategory(matchingCategory, pageable));
+        Page<MatchingPostListItemDto> matchingPosts = new PageImpl<>(content, pageable,
+                counts.count(MatchingPostFacetCounter.CATEGORY, matchingCategory));
+        return MatchingPostPagingResponseDto.from(matchingPosts, counts.facets());
     }
 
-}
+    // 카테고리, 모집 상태는 선택 조건. 조합마다 복합 인덱스를 타는 쿼리를 사용하며 count 쿼리는 없음
+    @Transactional(readOnly = true)
+    public CursorPage<MatchingPostListItemDto> findFeed(String category, String status, LocalDateTime cursorDate,
+                                                        Long cursorId) {
+        Pageable pageable = Pageable.ofSize(FEED_SIZE);
+        Category feedCategory = category == null ? null : Category.valueOf(category);
+        Status feedStatus = status == null ? null : Status.valueOf(status);
+        boolean hasCursor = cursorDate != null && cursorId != null;
 
+        Slice<MatchingPostListItemDto> posts;
+        if (feedCategory != null && feedStatus != null) {
+            posts = hasCursor
+                    ? matchingPostRepository.findFeedByCategoryAndStatusAfter(feedCategory, feedStatus, cursorDate,
+                    cursorId, pageable)
+                    : matchingPostRepository.findFeedByCategoryAndStatus(feedCategory, feedStatus, pageable);
+        } else if (feedCategory != null) {
+            posts = hasCursor
+                    ? matchingPostRepository.findFeedByCategoryAfter(feedCategory, cursorDate, cursorId, pageable)
+                    : matchingPostRepository.findFeedByCategory(feedCategory, pageable);
+        } else if (feedStatus != null) {
+            posts = hasCursor
+                    ? matchingPostRepository.findFeedByStatusAfter(feedStatus, cursorDate, cursorId, pageable)
+                    : matchingPostRepository.findFeedByStatus(feedStatus, pageable);
+        } else {
+            posts = hasCursor
+                    ? matchingPostRepository.findFeedAfter(cursorDate, cursorId, pageable)
+                    : matchingPostRepository.findFeed(pageable);
+        }
+        return CursorPage.of(posts, MatchingPostListItemDto::getCreateDate, MatchingPostListItemDto::getMatchingPostId);
+    }
 
+}
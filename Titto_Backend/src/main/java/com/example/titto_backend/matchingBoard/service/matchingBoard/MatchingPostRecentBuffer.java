@@ -0,0 +1,174 @@
+package com.example.titto_backend.matchingBoard.service.matchingBoard;
+
+import com.example.titto_backend.common.event.BoardChangedEvent;
+import com.example.titto_backend.common.event.BoardChangedEvent.Board;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
+import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostListItemDto;
+import com.example.titto_backend.matchingBoard.repository.matchingBoard.MatchingPostRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매칭 게시판 목록 앞쪽 페이지용 최신 글 버퍼. 전체와 카테고리별로 최신 CAPACITY개의 목록 항목을 메모리에 두고
+ * 새 글은 앞에 넣고 가장 오래된 글은 밀어낸다. 작성/수정/삭제는 BoardChangeBroadcaster로 모든 인스턴스에 전파된
+ * 이벤트를 받아 각자 반영하고, 전파가 누락되거나 댓글 수처럼 이벤트가 없는 값이 바뀌는 경우를 위해
+ * REFRESH_INTERVAL이 지난 버퍼는 DB에서 다시 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchingPostRecentBuffer {
+
+    public static final int CAPACITY = 20;
+
+    private static final String ALL = "ALL";
+    private static final long REFRESH_INTERVAL_MS = Duration.ofSeconds(30).toMillis();
+    private static final Comparator<MatchingPostListItemDto> NEWEST_FIRST = Comparator
+            .comparing(MatchingPostListItemDto::getCreateDate)
+            .thenComparing(MatchingPostListItemDto::getMatchingPostId)
+            .reversed();
+
+    private final MatchingPostRepository matchingPostRepository;
+
+    private final Map<String, Buffer> buffers = new ConcurrentHashMap<>();
+
+    // 변경 이벤트를 반영할 때마다 증가. DB에서 다시 읽는 동안 반영된 변경을 덮어쓰지 않기 위해 사용
+    private long generation;
+
+    // category가 null이면 전체 목록. 버퍼 범위를 벗어난 페이지는 비어 있는 Optional
+    public Optional<List<MatchingPostListItemDto>> findPage(Category category, int page, int size) {
+        int from = page * size;
+        int to = from + size;
+        if (to > CAPACITY) {
+            return Optional.empty();
+        }
+
+        String key = key(category);
+        Buffer buffer = buffers.get(key);
+        if (buffer == null || buffer.isExpired() || !buffer.covers(to)) {
+            buffer = load(key, category);
+        }
+        return Optional.of(buffer.slice(from, to));
+    }
+
+    @EventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.board() != Board.MATCHING_POST) {
+            return;
+        }
+        switch (event.change()) {
+            case CREATED, UPDATED -> apply(event.postId(), findItem(event.postId()));
+            case DELETED -> apply(event.postId(), null);
+            // 조회수 반영은 잦으므로 버퍼에 있는 글만 다시 읽음
+            case VIEWED -> {
+                if (buffers.values().stream().anyMatch(buffer -> buffer.contains(event.postId()))) {
+                    apply(event.postId(), findItem(event.postId()));
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private Buffer load(String key, Category category) {
+        long before;
+        synchronized (this) {
+            before = generation;
+        }
+
+        Pageable pageable = Pageable.ofSize(CAPACITY);
+        List<MatchingPostListItemDto> items = category == null
+                ? matchingPostRepository.findListItems(pageable)
+                : matchingPostRepository.findListItemsByCategory(category, pageable);
+        Buffer buffer = new Buffer(List.copyOf(items), items.size() < CAPACITY, System.currentTimeMillis());
+
+        synchronized (this) {
+            if (generation == before) {
+                buffers.put(key, buffer);
+            }
+        }
+        return buffer;
+    }
+
+    private MatchingPostListItemDto findItem(Long postId) {
+        List<MatchingPostListItemDto> items = matchingPostRepository.findListItemsByIdIn(List.of(postId));
+        return items.isEmpty() ? null : items.get(0);
+    }
+
+    // 모든 버퍼에서 기존 항목을 빼고, 글이 남아 있으면 전체와 해당 카테고리 버퍼에 다시 넣음
+    private synchronized void apply(Long postId, MatchingPostListItemDto item) {
+        generation++;
+        buffers.replaceAll((key, buffer) -> {
+            Buffer updated = buffer.without(postId);
+            if (item != null && (key.equals(ALL) || key.equals(key(item.getCategory())))) {
+                updated = updated.with(item);
+            }
+            return updated;
+        });
+    }
+
+    private static String key(Category category) {
+        return category == null ? ALL : category.name();
+    }
+
+    /**
+     * 최신순으로 정렬된 목록 항목. complete가 true면 조건에 맞는 글을 모두 담고 있어 뒤에 더 읽을 글이 없다.
+     * 읽는 쪽과 잠금 없이 공유하도록 변경 시 새 인스턴스를 만든다.
+     */
+    private record Buffer(List<MatchingPostListItemDto> items, boolean complete, long loadedAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - loadedAt > REFRESH_INTERVAL_MS;
+        }
+
+        // 삭제로 항목이 줄어 요청한 범위를 채우지 못하면 DB에서 다시 읽어야 함
+        boolean covers(int to) {
+            return complete || items.size() >= to;
+        }
+
+        boolean contains(Long postId) {
+            return items.stream().anyMatch(item -> Objects.equals(item.getMatchingPostId(), postId));
+        }
+
+        List<MatchingPostListItemDto> slice(int from, int to) {
+            return items.subList(Math.min(from, items.size()), Math.min(to, items.size()));
+        }
+
+        Buffer without(Long postId) {
+            if (!contains(postId)) {
+                return this;
+            }
+            List<MatchingPostListItemDto> remaining = items.stream()
+                    .filter(item -> !Objects.equals(item.getMatchingPostId(), postId))
+                    .toList();
+            return new Buffer(remaining, complete, loadedAt);
+        }
+
+        // 버퍼가 모든 글을 담고 있지 않다면 가장 오래된 항목보다 오래된 글은 위치를 알 수 없으므로 넣지 않음
+        Buffer with(MatchingPostListItemDto item) {
+            int position = Collections.binarySearch(items, item, NEWEST_FIRST);
+            int insertAt = position < 0 ? -position - 1 : position;
+            if (!complete && insertAt >= items.size()) {
+                return this;
+            }
+
+            List<MatchingPostListItemDto> updated = new ArrayList<>(items);
+            updated.add(insertAt, item);
+            if (updated.size() <= CAPACITY) {
+                return new Buffer(List.copyOf(updated), complete, loadedAt);
+            }
+            return new Buffer(List.copyOf(updated.subList(0, CAPACITY)), false, loadedAt);
+        }
+    }
+
+}
@@ -2,9 +2,13 @@ package com.example.titto_backend.matchingBoard.service.matchingBoard;
 
 import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.repository.UserRepository;
+import com.example.titto_backend.common.event.BoardChangeBroadcaster;
+import com.example.titto_backend.common.event.BoardChangedEvent.Board;
+import com.example.titto_backend.common.event.BoardChangedEvent.Change;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
-import com.example.titto_backend.common.util.RedisUtil;
+import com.example.titto_backend.common.viewcount.ViewCountService;
+import com.example.titto_backend.common.viewcount.ViewTarget;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.Status;
@@ -17,8 +21,7 @@ import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse
 import com.example.titto_backend.matchingBoard.repository.matchingBoard.MatchingPostRepository;
 import com.example.titto_backend.matchingBoard.repository.review.MatchingPostReviewRepository;
 import java.security.Principal;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,7 +33,9 @@ public class MatchingPostService {
     private final MatchingPostRepository matchingPostRepository;
     private final UserRepository userRepository;
     private final MatchingPostReviewRepository matchingPostReviewRepository;
-    private final RedisUtil redisUtil;
+    private final ViewCountService viewCountService;
+    private final MatchingPostFacetCounter matchingPostFacetCounter;
+    private final BoardChangeBroadcaster boardChangeBroadcaster;
 
     // 게시물 작성
     @Transactional
@@ -39,16 +44,22 @@ public class MatchingPostService {
         User user = getCurrentUser(principal);
         MatchingPost matchingPost = matchingPostCreateRequestDto.toEntity(user);
         matchingPostRepository.save(matchingPost);
+        matchingPostFacetCounter.created(matchingPost);
+        boardChangeBroadcaster.publish(Board.MATCHING_POST, Change.CREATED, matchingPost.getMatchingPostId());
         return MatchingPostCreateResponseDto.of(matchingPost);
     }
 
     // 게시물 조회
-    @Transactional
+    @Transactional(readOnly = true)
     public MatchingPostResponseDto findByMatchingPostId(Principal principal, Long matchingPostId) {
         User user = getCurrentUser(principal);
-        MatchingPost matchingPost = findMatchingPostById(matchingPostId);
-        countViews(user, matchingPost);
-        return MatchingPostResponseDto.of(matchingPost);
+        MatchingPost matchingPost = matchingPostRepository.findDetailById(matchingPostId)
+                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+        return MatchingPostResponseDto.of(matchingPost, countViews(user, matchingPost));
+    }
+
+    public long countTodayViewers(Long matchingPostId) {
+        return viewCountService.countTodayViewers(ViewTarget.MATCHING_POST, matchingPostId);
     }
 
     // 게시물 삭제
@@ -59,8 +70,13 @@ public class MatchingPostService {
 
         MatchingPost matchingPost = findMatchingPostById(matchingPostId);
 
-        matchingPostReviewRepository.deleteAllByMatchingPost(matchingPost);
-        matchingPostRepository.delete(matchingPost);
+        Optional<Long> bodyId = matchingPostRepository.findBodyIdById(matchingPostId);
+        matchingPostReviewRepository.deleteAllByMatchingPostId(matchingPostId);
+        matchingPostRepository.deleteMatchingPostById(matchingPostId);
+        bodyId.ifPresent(matchingPostRepository::deleteBodyById);
+        matchingPostFacetCounter.deleted(matchingPost);
+        viewCountService.removed(ViewTarget.MATCHING_POST, matchingPostId);
+        boardChangeBroadcaster.publish(Board.MATCHING_POST, Change.DELETED, matchingPostId);
         return MatchingPostDeleteResponseDto.of(matchingPostId);
     }
 
@@ -72,6 +88,9 @@ public class MatchingPostService {
         validateMatchingPostAuthorIsLoggedInUser(matchingPostId, user);
         MatchingPost matchingPost = findMatchingPostById(matchingPostId);
 
+        Category oldCategory = matchingPost.getCategory();
+        Status oldStatus = matchingPost.getStatus();
+
         // 게시물 내용 수정
         matchingPost.update(
                 Category.valueOf(matchingPostUpdateRequestDto.getCategory()),
@@ -79,31 +98,16 @@ public class MatchingPostService {
                 matchingPostUpdateRequestDto.getContent(),
                 Status.valueOf(matchingPostUpdateRequestDto.getStatus())
         );
+        matchingPostFacetCounter.changed(oldCategory, oldStatus, matchingPost.getCategory(), matchingPost.getStatus());
+        boardChangeBroadcaster.publish(Board.MATCHING_POST, Change.UPDATED, matchingPostId);
         return MatchingPostUpdateResponseDto.of(matchingPost);
     }
 
-    @Transactional
-    public void countViews(User user, MatchingPost matchingPost) {
-        String key = String.format("matchingPostViewCount:%d:%d", user.getId(), matchingPost.getMatchingPostId());
-        String viewCount = redisUtil.getData(key);
-
-        if (viewCount == null) {
-            redisUtil.setDateExpire(key, "1", calculateTimeUntilMidnight());
-            matchingPost.updateViewCount();
-        } else {
-            int count = Integer.parseInt(viewCount);
-            if (count < 1) {
-                count++;
-                redisUtil.setDateExpire(key, String.valueOf(count), calculateTimeUntilMidnight());
-                matchingPost.updateViewCount();
-            }
-        }
-    }
-
-    public static long calculateTimeUntilMidnight() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime midnight = now.truncatedTo(ChronoUnit.DAYS).plusDays(1);
-        return ChronoUnit.SECONDS.between(now, midnight);
+    // 조회수는 Redis에 누적한 뒤 ViewCountService가 주기적으로 DB에 일괄 반영
+    private int countViews(User user, MatchingPost matchingPost) {
+        long pendingCount = viewCountService.record(ViewTarget.MATCHING_POST, matchingPost.getMatchingPostId(),
+                user.getId()).pendingCount();
+        return matchingPost.getViewCount() + (int) pendingCount;
     }
 
     private User getCurrentUser(Principal principal) {
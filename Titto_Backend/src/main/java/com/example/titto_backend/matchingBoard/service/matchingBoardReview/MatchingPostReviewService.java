@@ -2,6 +2,7 @@ package com.example.titto_backend.matchingBoard.service.matchingBoardReview;
 
 import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.repository.UserRepository;
+import com.example.titto_backend.common.dto.CursorPage;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
@@ -16,9 +17,12 @@ import com.example.titto_backend.matchingBoard.dto.response.matchingPostReviewRe
 import com.example.titto_backend.matchingBoard.repository.matchingBoard.MatchingPostRepository;
 import com.example.titto_backend.matchingBoard.repository.review.MatchingPostReviewRepository;
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +30,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MatchingPostReviewService {
 
+    private static final int REVIEW_PAGE_SIZE = 20;
+
     private final MatchingPostReviewRepository matchingPostReviewRepository;
     private final UserRepository userRepository;
     private final MatchingPostRepository matchingPostRepository;
@@ -37,7 +43,7 @@ public class MatchingPostReviewService {
 
         MatchingPost matchingPost = matchingPostRepository.findById(matchingPostReviewCreateRequestDto.getPostId())
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-        matchingPost.increaseReviewCount();
+        matchingPostRepository.increaseReviewCount(matchingPost.getMatchingPostId());
 
         MatchingPostReview matchingPostReview = MatchingPostReview.builder()
                 .matchingPost(matchingPost)
@@ -58,6 +64,17 @@ public class MatchingPostReviewService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<MatchingPostReviewResponseDto> findReviewPage(Long postId, LocalDateTime cursorDate,
+                                                                    Long cursorId) {
+        Pageable pageable = Pageable.ofSize(REVIEW_PAGE_SIZE);
+        Slice<MatchingPostReviewResponseDto> reviews = cursorDate != null && cursorId != null
+                ? matchingPostReviewRepository.findPageByPostIdAfter(postId, cursorDate, cursorId, pageable)
+                : matchingPostReviewRepository.findPageByPostId(postId, pageable);
+        return CursorPage.of(reviews, MatchingPostReviewResponseDto::getCreateDate,
+                MatchingPostReviewResponseDto::getReviewId);
+    }
+
     @Transactional
     public MatchingPostReviewUpdateResponseDto updateReview(Principal principal,
                                                             MatchingPostReviewUpdateRequestDto matchingPostReviewUpdateRequestDto) {
@@ -83,7 +100,7 @@ public class MatchingPostReviewService {
 
         MatchingPost matchingPost = matchingPostRepository.findById(matchingPostReviewDeleteRequestDto.getPostId())
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-        matchingPost.decreaseReviewCount();
+        matchingPostRepository.decreaseReviewCount(matchingPost.getMatchingPostId());
 
         MatchingPostReview matchingPostReview = matchingPostReviewRepository.findById(
                 matchingPostReviewDeleteRequestDto.getReviewId()).orElseThrow(
@@ -2,6 +2,7 @@ package com.example.titto_backend.questionBoard.controller;
 
 import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.repository.UserRepository;
+import com.example.titto_backend.common.dto.CursorPage;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
 import com.example.titto_backend.questionBoard.dto.AnswerDTO;
@@ -10,15 +11,20 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.security.Principal;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -46,6 +52,48 @@ public class AnswerController {
         return ResponseEntity.status(201).body(savedAnswer);
     }
 
+    @GetMapping("/question/{questionId}")
+    @Operation(
+            summary = "답변 목록 조회",
+            description = "커서 기반으로 질문의 답변을 조회합니다. 첫 페이지는 커서 없이 요청하며 채택된 답변이 맨 앞에 옵니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<CursorPage<AnswerDTO.Response>> getAnswers(
+            @PathVariable("questionId") Long questionId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+            @RequestParam(required = false) Long cursorId) {
+        return ResponseEntity.ok(answerService.findByQuestionId(questionId, cursorDate, cursorId));
+    }
+
+    @GetMapping("/question/{questionId}/votes")
+    @Operation(
+            summary = "추천순 답변 목록 조회",
+            description = "질문의 답변을 추천 수가 많은 순으로 조회합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<Slice<AnswerDTO.Response>> getAnswersOrderByVotes(
+            @PathVariable("questionId") Long questionId,
+            @RequestParam(defaultValue = "0") int page) {
+        return ResponseEntity.ok(answerService.findByQuestionIdOrderByVotes(questionId, page));
+    }
+
+    @PostMapping("/{answerId}/vote")
+    @Operation(
+            summary = "답변 추천",
+            description = "답변을 추천합니다. 이미 추천한 답변이면 추천을 취소합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "404", description = "답변을 찾을 수 없음")
+            })
+    public ResponseEntity<AnswerDTO.VoteResponse> voteAnswer(@PathVariable("answerId") Long answerId,
+                                                             Principal principal) {
+        return ResponseEntity.ok(answerService.vote(answerId, principal.getName()));
+    }
+
     @PutMapping("/accept/{answerId}")
     @Operation(
             summary = "답변 채택",
@@ -2,16 +2,23 @@ package com.example.titto_backend.questionBoard.controller;
 
 import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.repository.UserRepository;
+import com.example.titto_backend.common.dto.CursorPage;
+import com.example.titto_backend.common.dto.FacetPage;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
 import com.example.titto_backend.questionBoard.dto.QuestionDTO;
+import com.example.titto_backend.questionBoard.dto.QuestionSuggestionDTO;
+import com.example.titto_backend.questionBoard.dto.QuestionSummaryDTO;
 import com.example.titto_backend.questionBoard.service.QuestionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -56,11 +63,95 @@ public class QuestionController {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
                     @ApiResponse(responseCode = "500", description = "관리자 문의")
             })
-    public ResponseEntity<Page<QuestionDTO.Response>> getAllQuestions(@RequestParam(defaultValue = "0") int page) {
-        Page<QuestionDTO.Response> questions = questionService.findAll(page);
+    public ResponseEntity<FacetPage<QuestionSummaryDTO>> getAllQuestions(@RequestParam(defaultValue = "0") int page) {
+        FacetPage<QuestionSummaryDTO> questions = questionService.findAll(page);
         return ResponseEntity.ok(questions);
     }
 
+    @GetMapping("/feed")
+    @Operation(
+            summary = "전체 질문 피드 조회",
+            description = "커서 기반으로 전체 질문을 조회합니다. 첫 페이지는 커서 없이 요청합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<CursorPage<QuestionSummaryDTO>> getQuestionFeed(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+            @RequestParam(required = false) Long cursorId) {
+        return ResponseEntity.ok(questionService.findFeed(cursorDate, cursorId));
+    }
+
+    @GetMapping("/feed/category/{category}")
+    @Operation(
+            summary = "카테고리별 질문 피드 조회",
+            description = "커서 기반으로 카테고리별 질문을 조회합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<CursorPage<QuestionSummaryDTO>> getQuestionFeedByCategory(
+            @PathVariable("category") String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+            @RequestParam(required = false) Long cursorId) {
+        return ResponseEntity.ok(questionService.findFeedByCategory(category, cursorDate, cursorId));
+    }
+
+    @GetMapping("/feed/status/{status}")
+    @Operation(
+            summary = "상태별 질문 피드 조회",
+            description = "커서 기반으로 상태별 질문을 조회합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<CursorPage<QuestionSummaryDTO>> getQuestionFeedByStatus(
+            @PathVariable("status") String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+            @RequestParam(required = false) Long cursorId) {
+        return ResponseEntity.ok(questionService.findFeedByStatus(status, cursorDate, cursorId));
+    }
+
+    @GetMapping("/trending")
+    @Operation(
+            summary = "인기 질문 조회",
+            description = "조회, 답변, 채택 활동을 최근일수록 높게 반영한 인기 질문을 조회합니다. 카테고리를 지정하면 카테고리별로 조회합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<List<QuestionSummaryDTO>> getTrendingQuestions(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(questionService.findTrending(category, size));
+    }
+
+    @GetMapping("/queue/{category}")
+    @Operation(
+            summary = "카테고리별 미해결 질문 대기열 조회",
+            description = "답변을 기다리는 질문을 줄 포인트가 높은 순, 같으면 오래된 순으로 조회합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<List<QuestionSummaryDTO>> getUnsolvedQueue(@PathVariable("category") String category,
+                                                                     @RequestParam(defaultValue = "0") int page) {
+        return ResponseEntity.ok(questionService.findUnsolvedQueue(category, page));
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(
+            summary = "질문 제목 자동완성",
+            description = "입력한 접두사로 시작하는 질문 제목을 조회수와 답변 수가 많은 순으로 추천합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<List<QuestionSuggestionDTO>> autocomplete(@RequestParam("q") String query,
+                                                                    @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(questionService.autocomplete(query, size));
+    }
+
     @GetMapping("/{postId}")
     @Operation(
             summary = "질문 상세 조회",
@@ -75,6 +166,44 @@ public class QuestionController {
         return new ResponseEntity<>(question, HttpStatus.OK);
     }
 
+    @GetMapping("/{postId}/related")
+    @Operation(
+            summary = "비슷한 질문 조회",
+            description = "제목과 내용이 비슷한 다른 질문을 유사도가 높은 순으로 조회합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<List<QuestionSummaryDTO>> getRelatedQuestions(@PathVariable Long postId,
+                                                                        @RequestParam(defaultValue = "5") int size) {
+        return ResponseEntity.ok(questionService.findRelated(postId, size));
+    }
+
+    @PostMapping("/similar")
+    @Operation(
+            summary = "작성 중인 질문과 비슷한 질문 조회",
+            description = "질문을 등록하기 전에 이미 답변되었을 수 있는 비슷한 질문을 조회합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<List<QuestionSummaryDTO>> getSimilarQuestions(@RequestBody QuestionDTO.Similar request,
+                                                                        @RequestParam(defaultValue = "5") int size) {
+        return ResponseEntity.ok(questionService.findSimilar(request, size));
+    }
+
+    @GetMapping("/{postId}/viewers")
+    @Operation(
+            summary = "오늘의 순 조회자 수 조회",
+            description = "오늘 질문을 조회한 사용자 수를 조회합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<Long> getTodayViewers(@PathVariable Long postId) {
+        return ResponseEntity.ok(questionService.countTodayViewers(postId));
+    }
+
     @GetMapping("/category/{category}")
     @Operation(
             summary = "카테고리별 질문 조회",
@@ -83,9 +212,9 @@ public class QuestionController {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
                     @ApiResponse(responseCode = "404", description = "질문을 찾을 수 없음")
             })
-    public ResponseEntity<Page<QuestionDTO.Response>> getQuestionsByCategory(@PathVariable("category") String category,
-                                                                             @RequestParam(defaultValue = "0") int page) {
-        Page<QuestionDTO.Response> questions = questionService.findByCategory(page, category);
+    public ResponseEntity<FacetPage<QuestionSummaryDTO>> getQuestionsByCategory(@PathVariable("category") String category,
+                                                                                  @RequestParam(defaultValue = "0") int page) {
+        FacetPage<QuestionSummaryDTO> questions = questionService.findByCategory(page, category);
         return ResponseEntity.ok(questions);
     }
 
@@ -97,9 +226,9 @@ public class QuestionController {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
                     @ApiResponse(responseCode = "404", description = "질문을 찾을 수 없음")
             })
-    public ResponseEntity<Page<QuestionDTO.Response>> getQuestionsByStatus(@PathVariable("status") String status,
-                                                                           @RequestParam(defaultValue = "0") int page) {
-        Page<QuestionDTO.Response> questions = questionService.findByStatus(page, status);
+    public ResponseEntity<FacetPage<QuestionSummaryDTO>> getQuestionsByStatus(@PathVariable("status") String status,
+                                                                                @RequestParam(defaultValue = "0") int page) {
+        FacetPage<QuestionSummaryDTO> questions = questionService.findByStatus(page, status);
         return ResponseEntity.ok(questions);
     }
 
@@ -111,9 +240,9 @@ public class QuestionController {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
                     @ApiResponse(responseCode = "404", description = "질문을 찾을 수 없음")
             })
-    public ResponseEntity<Page<QuestionDTO.Response>> searchByKeyWord(@RequestParam("page") int page,
+    public ResponseEntity<Page<QuestionSummaryDTO>> searchByKeyWord(@RequestParam("page") int page,
                                                                       @RequestParam String keyWord) {
-        Page<QuestionDTO.Response> questions = questionService.searchByKeyword(keyWord, page);
+        Page<QuestionSummaryDTO> questions = questionService.searchByKeyword(keyWord, page);
         return ResponseEntity.ok(questions);
     }
 
@@ -7,8 +7,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,6 +22,10 @@ import lombok.Setter;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_answer_question_create_date_id", columnList = "question_id, create_date, answer_id"),
+        @Index(name = "idx_answer_question_vote_count_id", columnList = "question_id, vote_count, answer_id")
+})
 public class Answer extends BaseEntity {
 
     @Id
@@ -46,4 +52,8 @@ public class Answer extends BaseEntity {
     @Setter
     private boolean isAccepted;
 
+    // 추천 수. 실시간 값은 Redis에서 관리하고 AnswerVoteService가 주기적으로 반영하므로 엔티티 수정 시에는 쓰지 않음
+    @Column(name = "vote_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private int voteCount;
+
 }
@@ -7,12 +7,16 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -26,8 +30,15 @@ import lombok.Setter;
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_question_create_date_id", columnList = "create_date, question_id"),
+        @Index(name = "idx_question_department_create_date_id", columnList = "department, create_date, question_id"),
+        @Index(name = "idx_question_status_create_date_id", columnList = "status, create_date, question_id")
+})
 public class Question extends BaseEntity {
 
+    public static final int PREVIEW_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "question_id")
@@ -49,8 +60,13 @@ public class Question extends BaseEntity {
     @Column(name = "question_title", nullable = false)
     private String title;
 
-    @Column(name = "question_content", nullable = false, columnDefinition = "LONGTEXT")
-    private String content;
+    // 본문은 상세 조회에서만 필요하므로 별도 테이블에 두고, 목록에는 미리보기만 사용
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "body_id")
+    private QuestionBody body;
+
+    @Column(name = "content_preview", length = PREVIEW_LENGTH)
+    private String contentPreview;
 
     @Column(name = "send_Experience", nullable = false)
     private Integer sendExperience;
@@ -59,25 +75,47 @@ public class Question extends BaseEntity {
     @Column(name = "accepted_answer")
     private boolean isAnswerAccepted;
 
+    // 답변 수와 조회수는 DB에서 바로 증감하므로 엔티티 수정 시 메모리의 이전 값으로 덮어쓰지 않도록 UPDATE에서 제외
     @Setter
-    @Column(name = "answer_count")
+    @Column(name = "answer_count", updatable = false)
     private Integer answerCount;
 
     public void update(String title, String content, Department department, Integer sendExperience) {
         this.title = title;
-        this.content = content;
+        // 본문 이전이 끝나지 않은 글은 본문 행이 없으므로 수정 시 새로 만듦
+        if (this.body == null) {
+            this.body = new QuestionBody(content);
+        } else {
+            this.body.setContent(content);
+        }
+        this.contentPreview = preview(content);
         this.department = department;
         this.sendExperience = sendExperience;
     }
 
-    @Column(name = "view_count", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    @Column(name = "view_count", nullable = false, updatable = false, columnDefinition = "INTEGER DEFAULT 0")
     private Integer viewCount;
 
     @OneToMany(mappedBy = "question", cascade = CascadeType.REMOVE)
     private List<Answer> answers = new ArrayList<>();
 
-    public void addViewCount() {
-        this.viewCount++;
+    public String getContent() {
+        return body == null ? null : body.getContent();
+    }
+
+    private static String preview(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, PREVIEW_LENGTH);
+    }
+
+    public static class QuestionBuilder {
+        public QuestionBuilder content(String content) {
+            this.body = new QuestionBody(content);
+            this.contentPreview = preview(content);
+            return this;
+        }
     }
 
 }
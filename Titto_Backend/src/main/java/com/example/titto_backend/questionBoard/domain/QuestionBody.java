@@ -0,0 +1,33 @@
+package com.example.titto_backend.questionBoard.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 질문 본문. 목록 조회와 카운터 갱신이 question 행만 읽고 쓰도록 별도 테이블에 저장
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "question_body")
+public class QuestionBody {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "question_body_id")
+    private Long id;
+
+    @Setter
+    @Column(name = "content", nullable = false, columnDefinition = "LONGTEXT")
+    private String content;
+
+    public QuestionBody(String content) {
+        this.content = content;
+    }
+}
@@ -28,6 +28,9 @@ public class AnswerDTO {
     }
 
     @Data
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @Schema(description = "질문 글에 댓글 조회")
     public static class Response {
@@ -61,6 +64,9 @@ public class AnswerDTO {
         @Schema(description = "사용자 레벨")
         private Integer level;
 
+        @Schema(description = "추천 수")
+        private long voteCount;
+
         public Response(Answer answer) {
             this.id = answer.getId();
             this.postId = answer.getQuestion().getId();
@@ -72,7 +78,22 @@ public class AnswerDTO {
             this.createDate = answer.getCreateDate();
             this.updateDate = answer.getUpdateDate();
             this.level = answer.getAuthor().getLevel();
+            this.voteCount = answer.getVoteCount();
         }
     }
 
+    @Data
+    @AllArgsConstructor
+    @Schema(description = "답변 추천 결과")
+    public static class VoteResponse {
+        @Schema(description = "답변 ID")
+        private Long answerId;
+
+        @Schema(description = "요청 후 추천 상태")
+        private boolean voted;
+
+        @Schema(description = "추천 수")
+        private long voteCount;
+    }
+
 }
@@ -1,10 +1,12 @@
 package com.example.titto_backend.questionBoard.dto;
 
+import com.example.titto_backend.common.dto.CursorPage;
 import com.example.titto_backend.questionBoard.domain.Department;
 import com.example.titto_backend.questionBoard.domain.Question;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -36,11 +38,14 @@ public class QuestionDTO {
         private String department;
 
         @Schema(description = "줄 포인트")
-        @NotBlank
+        @NotNull
         private Integer sendExperience;
     }
 
     @Data
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @Schema(description = "질문 글 조회")
     public static class Response {
@@ -69,9 +74,18 @@ public class QuestionDTO {
         @Schema(description = "작성일")
         private LocalDateTime createdDate;
 
-        @Schema(description = "답변 목록")
+        @Schema(description = "답변 목록 (첫 페이지, 채택된 답변이 맨 앞)")
         private List<AnswerDTO.Response> answerList;
 
+        @Schema(description = "다음 답변 페이지 존재 여부")
+        private boolean hasMoreAnswers;
+
+        @Schema(description = "다음 답변 페이지 커서 (작성일)")
+        private LocalDateTime nextAnswerCursorDate;
+
+        @Schema(description = "다음 답변 페이지 커서 (ID)")
+        private Long nextAnswerCursorId;
+
         @Schema(description = "채택 여부")
         private boolean isAccepted;
 
@@ -96,7 +110,7 @@ public class QuestionDTO {
         @Schema(description = "답변 개수")
         private Integer answerCount;
 
-        public Response(Question question) {
+        public Response(Question question, CursorPage<AnswerDTO.Response> answers) {
             this.id = question.getId();
             this.authorId = question.getAuthor().getId();
             this.authorNickname = question.getAuthor().getNickname();
@@ -104,7 +118,10 @@ public class QuestionDTO {
             this.status = question.getStatus().toString();
             this.title = question.getTitle();
             this.content = question.getContent();
-            this.answerList = question.getAnswers().stream().map(AnswerDTO.Response::new).toList();
+            this.answerList = answers.getContent();
+            this.hasMoreAnswers = answers.isHasNext();
+            this.nextAnswerCursorDate = answers.getNextCursorDate();
+            this.nextAnswerCursorId = answers.getNextCursorId();
             this.isAccepted = question.isAnswerAccepted();
             this.viewCount = question.getViewCount();
             this.createDate = question.getCreateDate();
@@ -116,6 +133,20 @@ public class QuestionDTO {
         }
     }
 
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "작성 중인 질문과 비슷한 질문 조회")
+    public static class Similar {
+        @Schema(description = "제목")
+        @NotBlank
+        private String title;
+
+        @Schema(description = "내용")
+        private String content;
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
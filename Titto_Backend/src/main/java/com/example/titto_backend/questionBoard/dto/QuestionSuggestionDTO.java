@@ -0,0 +1,26 @@
+package com.example.titto_backend.questionBoard.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "질문 제목 자동완성")
+public class QuestionSuggestionDTO {
+
+    @Schema(description = "질문 ID")
+    private Long id;
+
+    @Schema(description = "제목")
+    private String title;
+
+    @Schema(description = "조회수")
+    private Integer viewCount;
+
+    @Schema(description = "답변 개수")
+    private Integer answerCount;
+
+}
@@ -0,0 +1,83 @@
+package com.example.titto_backend.questionBoard.dto;
+
+import com.example.titto_backend.questionBoard.domain.Department;
+import com.example.titto_backend.questionBoard.domain.Status;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "질문 글 목록 조회")
+public class QuestionSummaryDTO {
+
+    @Schema(description = "질문 ID")
+    private Long id;
+
+    @Schema(description = "제목")
+    private String title;
+
+    @Schema(description = "내용 미리보기")
+    private String contentSnippet;
+
+    @Schema(description = "카테고리")
+    private String department;
+
+    @Schema(description = "상태")
+    private String status;
+
+    @Schema(description = "채택 여부")
+    private boolean isAccepted;
+
+    @Schema(description = "조회수")
+    private Integer viewCount;
+
+    @Schema(description = "답변 개수")
+    private Integer answerCount;
+
+    @Schema(description = "줄 포인트")
+    private Integer sendExperience;
+
+    @Schema(description = "생성 날짜")
+    private LocalDateTime createDate;
+
+    @Schema(description = "수정 날짜")
+    private LocalDateTime updateDate;
+
+    @Schema(description = "질문 작성자 ID")
+    private Long authorId;
+
+    @Schema(description = "질문 작성자 닉네임")
+    private String authorNickname;
+
+    @Schema(description = "프로필")
+    private String profile;
+
+    @Schema(description = "사용자 레벨")
+    private Integer level;
+
+    public QuestionSummaryDTO(Long id, String title, String contentSnippet, Department department, Status status,
+                              boolean isAccepted, Integer viewCount, Integer answerCount, Integer sendExperience,
+                              LocalDateTime createDate, LocalDateTime updateDate, Long authorId,
+                              String authorNickname, String profile, Integer level) {
+        this.id = id;
+        this.title = title;
+        this.contentSnippet = contentSnippet;
+        this.department = department.toString();
+        this.status = status.toString();
+        this.isAccepted = isAccepted;
+        this.viewCount = viewCount;
+        this.answerCount = answerCount;
+        this.sendExperience = sendExperience;
+        this.createDate = createDate;
+        this.updateDate = updateDate;
+        this.authorId = authorId;
+        this.authorNickname = authorNickname;
+        this.profile = profile;
+        this.level = level;
+    }
+
+}
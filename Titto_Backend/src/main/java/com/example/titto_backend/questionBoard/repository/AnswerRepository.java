@@ -1,12 +1,23 @@
 package com.example.titto_backend.questionBoard.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.export.dto.ExportDTO;
 import com.example.titto_backend.questionBoard.domain.Answer;
 import com.example.titto_backend.questionBoard.dto.AnswerInfoDTO;
-import io.lettuce.core.dynamic.annotation.Param;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
     @Query("SELECT new com.example.titto_backend.questionBoard.dto.AnswerInfoDTO(a.id, a.content, a.question.id, a.question.title, a.question.department) "
@@ -16,5 +27,55 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
 
     List<Answer> findByQuestionId(Long questionId);
 
+    @Query("SELECT a FROM Answer a JOIN FETCH a.author WHERE a.question.id = :questionId AND a.isAccepted = true")
+    Optional<Answer> findAcceptedByQuestionId(@Param("questionId") Long questionId);
+
+    // 채택되지 않은 답변을 작성순으로 커서 조회 (question_id, create_date, answer_id 인덱스 사용)
+    @Query("SELECT a FROM Answer a JOIN FETCH a.author"
+            + " WHERE a.question.id = :questionId AND a.isAccepted = false"
+            + " ORDER BY a.createDate ASC, a.id ASC")
+    Slice<Answer> findPageByQuestionId(@Param("questionId") Long questionId, Pageable pageable);
+
+    @Query("SELECT a FROM Answer a JOIN FETCH a.author"
+            + " WHERE a.question.id = :questionId AND a.isAccepted = false"
+            + " AND (a.createDate > :cursorDate OR (a.createDate = :cursorDate AND a.id > :cursorId))"
+            + " ORDER BY a.createDate ASC, a.id ASC")
+    Slice<Answer> findPageByQuestionIdAfter(@Param("questionId") Long questionId,
+                                            @Param("cursorDate") LocalDateTime cursorDate,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
+
+    // 추천순 조회 (question_id, vote_count, answer_id 인덱스 사용). 추천 수는 주기적으로 반영된 값 기준
+    @Query("SELECT a FROM Answer a JOIN FETCH a.author WHERE a.question.id = :questionId"
+            + " ORDER BY a.voteCount DESC, a.id DESC")
+    Slice<Answer> findPageByQuestionIdOrderByVotes(@Param("questionId") Long questionId, Pageable pageable);
+
+    @Query("SELECT a.voteCount FROM Answer a WHERE a.id = :id")
+    Optional<Integer> findVoteCountById(@Param("id") Long id);
+
+    @Query("SELECT a.id FROM Answer a WHERE a.question.id = :questionId")
+    List<Long> findIdsByQuestionId(@Param("questionId") Long questionId);
+
+    @Query("SELECT DISTINCT a.question.id FROM Answer a WHERE a.author.id = :authorId")
+    List<Long> findQuestionIdsByAuthorId(@Param("authorId") Long authorId);
+
+    @Query("SELECT a.author.id FROM Answer a WHERE a.id = :id")
+    Optional<Long> findAuthorIdById(@Param("id") Long id);
+
+    // 수정 이력 번호가 겹치지 않도록 같은 답변의 수정을 차례로 처리. 엔티티를 읽기 전에 호출해야 함
+    @Query(value = "SELECT answer_id FROM answer WHERE answer_id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM Answer a WHERE a.question.id = :questionId")
+    int deleteAllByQuestionId(@Param("questionId") Long questionId);
+
     List<Answer> findAnswersByAuthor(User user);
+
+    // 내보내기용 전체 조회 (MySQL 스트리밍)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.example.titto_backend.export.dto.ExportDTO$AnswerRow("
+            + "a.id, a.question.id, a.author.id, a.content, a.isAccepted, a.voteCount, a.createDate, a.updateDate)"
+            + " FROM Answer a ORDER BY a.id")
+    Stream<ExportDTO.AnswerRow> streamExportRows();
 }
@@ -1,31 +1,190 @@
 package com.example.titto_backend.questionBoard.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.common.search.SearchDocument;
+import com.example.titto_backend.export.dto.ExportDTO;
 import com.example.titto_backend.questionBoard.domain.Department;
 import com.example.titto_backend.questionBoard.domain.Question;
 import com.example.titto_backend.questionBoard.domain.Status;
 import com.example.titto_backend.questionBoard.dto.QuestionInfoDTO;
+import com.example.titto_backend.questionBoard.dto.QuestionSuggestionDTO;
+import com.example.titto_backend.questionBoard.dto.QuestionSummaryDTO;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
-    Page<Question> findByDepartmentOrderByCreateDateDesc(Pageable pageable, Department category);
 
-    Page<Question> findAllByOrderByCreateDateDesc(Pageable pageable);
+    // 목록 조회용 요약 프로젝션 (작성자 조인, 본문 테이블 대신 미리보기 컬럼 사용)
+    String SUMMARY_SELECT = "SELECT new com.example.titto_backend.questionBoard.dto.QuestionSummaryDTO("
+            + "q.id, q.title, q.contentPreview, q.department,"
+            + " q.status, q.isAnswerAccepted, q.viewCount, q.answerCount, q.sendExperience, q.createDate,"
+            + " q.updateDate, a.id, a.nickname, a.profile, a.level) "
+            + "FROM Question q JOIN q.author a";
+
+    // 전체 글 수는 QuestionFacetCounter의 집계값을 사용하므로 count 쿼리 없이 조회
+    @Query(SUMMARY_SELECT + " ORDER BY q.createDate DESC, q.id DESC")
+    List<QuestionSummaryDTO> findSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE q.department = :department ORDER BY q.createDate DESC, q.id DESC")
+    List<QuestionSummaryDTO> findSummariesByDepartment(@Param("department") Department department,
+                                                       Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE q.status = :status ORDER BY q.createDate DESC, q.id DESC")
+    List<QuestionSummaryDTO> findSummariesByStatus(@Param("status") Status status, Pageable pageable);
+
+    // 검색 색인이 준비되기 전에 사용하는 제목 부분 일치 검색
+    @Query(value = SUMMARY_SELECT + " WHERE q.title LIKE CONCAT('%', :keyWord, '%')"
+            + " ORDER BY q.createDate DESC, q.id DESC",
+            countQuery = "SELECT COUNT(q) FROM Question q WHERE q.title LIKE CONCAT('%', :keyWord, '%')")
+    Page<QuestionSummaryDTO> findSummariesByTitleContaining(@Param("keyWord") String keyWord, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE q.id IN :ids")
+    List<QuestionSummaryDTO> findSummariesByIdIn(@Param("ids") List<Long> ids);
+
+    // 검색 색인, 인기 순위처럼 ID 순서가 정해진 목록을 그 순서대로 조회. 삭제된 질문은 제외
+    default List<QuestionSummaryDTO> findSummariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, QuestionSummaryDTO> summaries = findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(QuestionSummaryDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
-    Page<Question> findQuestionByStatus(Status status, Pageable pageable);
+    // 커서 기반 피드 (create_date, question_id 복합 인덱스 사용, count 쿼리 없음)
+    @Query(SUMMARY_SELECT + " ORDER BY q.createDate DESC, q.id DESC")
+    Slice<QuestionSummaryDTO> findFeed(Pageable pageable);
 
-    Page<Question> findByTitleContaining(String keyWord, Pageable pageable);
+    @Query(SUMMARY_SELECT
+            + " WHERE q.createDate < :cursorDate OR (q.createDate = :cursorDate AND q.id < :cursorId)"
+            + " ORDER BY q.createDate DESC, q.id DESC")
+    Slice<QuestionSummaryDTO> findFeedAfter(@Param("cursorDate") LocalDateTime cursorDate,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
 
-    @Query("SELECT new com.example.titto_backend.questionBoard.dto.QuestionInfoDTO(a.id, a.title, a.content,"
+    @Query(SUMMARY_SELECT + " WHERE q.department = :department ORDER BY q.createDate DESC, q.id DESC")
+    Slice<QuestionSummaryDTO> findFeedByDepartment(@Param("department") Department department, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE q.department = :department"
+            + " AND (q.createDate < :cursorDate OR (q.createDate = :cursorDate AND q.id < :cursorId))"
+            + " ORDER BY q.createDate DESC, q.id DESC")
+    Slice<QuestionSummaryDTO> findFeedByDepartmentAfter(@Param("department") Department department,
+                                                        @Param("cursorDate") LocalDateTime cursorDate,
+                                                        @Param("cursorId") Long cursorId,
+                                                        Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE q.status = :status ORDER BY q.createDate DESC, q.id DESC")
+    Slice<QuestionSummaryDTO> findFeedByStatus(@Param("status") Status status, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE q.status = :status"
+            + " AND (q.createDate < :cursorDate OR (q.createDate = :cursorDate AND q.id < :cursorId))"
+            + " ORDER BY q.createDate DESC, q.id DESC")
+    Slice<QuestionSummaryDTO> findFeedByStatusAfter(@Param("status") Status status,
+                                                    @Param("cursorDate") LocalDateTime cursorDate,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
+
+    // 상세 조회: 질문, 작성자, 본문을 한 번의 쿼리로 조회. 답변은 AnswerRepository에서 페이지 단위로 조회
+    @Query("SELECT q FROM Question q JOIN FETCH q.author LEFT JOIN FETCH q.body WHERE q.id = :id")
+    Optional<Question> findDetailById(@Param("id") Long id);
+
+    @Query("SELECT new com.example.titto_backend.questionBoard.dto.QuestionInfoDTO(a.id, a.title, a.contentPreview,"
             + " a.createDate, a.viewCount, a.answerCount, a.department) "
             + "FROM Question a"
             + " WHERE a.author = :user")
     List<QuestionInfoDTO> findQuestionsInfoByAuthor(@Param("user") User user);
 
     List<Question> findQuestionsByAuthor(User user);
+
+    @Query("SELECT q.id FROM Question q WHERE q.author.id = :authorId")
+    List<Long> findIdsByAuthorId(@Param("authorId") Long authorId);
+
+    @Query("SELECT q.author.id FROM Question q WHERE q.id = :id")
+    Optional<Long> findAuthorIdById(@Param("id") Long id);
+
+    // 수정 이력 번호가 겹치지 않도록 같은 질문의 수정을 차례로 처리. 엔티티를 읽기 전에 호출해야 함
+    @Query(value = "SELECT question_id FROM question WHERE question_id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Question q SET q.answerCount = q.answerCount + :delta WHERE q.id = :id")
+    int addAnswerCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 이미 채택된 질문이면 0을 반환하여 동시에 채택해도 한 번만 반영됨
+    @Modifying
+    @Query("UPDATE Question q SET q.isAnswerAccepted = true, q.status = :status"
+            + " WHERE q.id = :id AND q.isAnswerAccepted = false")
+    int markAnswerAccepted(@Param("id") Long id, @Param("status") Status status);
+
+    // 답변은 AnswerRepository.deleteAllByQuestionId로 먼저 삭제해야 함. 본문은 deleteBodyById로 이어서 삭제
+    @Modifying
+    @Query("DELETE FROM Question q WHERE q.id = :id")
+    int deleteQuestionById(@Param("id") Long id);
+
+    @Query("SELECT q.body.id FROM Question q WHERE q.id = :id")
+    Optional<Long> findBodyIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM QuestionBody b WHERE b.id = :bodyId")
+    int deleteBodyById(@Param("bodyId") Long bodyId);
+
+    // 검색 색인 재구성용 ID 순 청크 조회. 본문을 아직 옮기지 않은 글(ContentBodyMigration)은 미리보기로 대신함
+    @Query("SELECT new com.example.titto_backend.common.search.SearchDocument(q.id, q.title,"
+            + " COALESCE(b.content, q.contentPreview, ''))"
+            + " FROM Question q LEFT JOIN q.body b WHERE q.id > :lastId ORDER BY q.id")
+    List<SearchDocument> findSearchDocuments(@Param("lastId") long lastId, Pageable pageable);
+
+    @Query("SELECT new com.example.titto_backend.common.search.SearchDocument(q.id, q.title,"
+            + " COALESCE(b.content, q.contentPreview, ''))"
+            + " FROM Question q LEFT JOIN q.body b WHERE q.id = :id")
+    Optional<SearchDocument> findSearchDocument(@Param("id") Long id);
+
+    // 자동완성 재구성용 ID 순 청크 조회
+    @Query("SELECT new com.example.titto_backend.questionBoard.dto.QuestionSuggestionDTO("
+            + "q.id, q.title, q.viewCount, q.answerCount) FROM Question q WHERE q.id > :lastId ORDER BY q.id")
+    List<QuestionSuggestionDTO> findSuggestions(@Param("lastId") long lastId, Pageable pageable);
+
+    @Query("SELECT new com.example.titto_backend.questionBoard.dto.QuestionSuggestionDTO("
+            + "q.id, q.title, q.viewCount, q.answerCount) FROM Question q WHERE q.id = :id")
+    Optional<QuestionSuggestionDTO> findSuggestion(@Param("id") Long id);
+
+    // 미해결 질문 대기열 재구성용 ID 순 청크 조회 (ID, 카테고리, 줄 포인트, 작성일)
+    @Query("SELECT q.id, q.department, q.sendExperience, q.createDate FROM Question q"
+            + " WHERE q.status = :status AND q.id > :lastId ORDER BY q.id")
+    List<Object[]> findQueueEntries(@Param("status") Status status, @Param("lastId") long lastId, Pageable pageable);
+
+    @Query("SELECT q.department, COUNT(q) FROM Question q GROUP BY q.department")
+    List<Object[]> countGroupByDepartment();
+
+    @Query("SELECT q.status, COUNT(q) FROM Question q GROUP BY q.status")
+    List<Object[]> countGroupByStatus();
+
+    // 내보내기용 전체 조회. fetch size를 Integer.MIN_VALUE로 지정하면 MySQL 드라이버가 결과를 한 행씩 스트리밍
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.example.titto_backend.export.dto.ExportDTO$QuestionRow("
+            + "q.id, q.author.id, q.department, q.status, q.title,"
+            + " COALESCE(b.content, q.contentPreview, ''), q.sendExperience,"
+            + " q.isAnswerAccepted, q.answerCount, q.viewCount, q.createDate, q.updateDate)"
+            + " FROM Question q LEFT JOIN q.body b ORDER BY q.id")
+    Stream<ExportDTO.QuestionRow> streamExportRows();
 }
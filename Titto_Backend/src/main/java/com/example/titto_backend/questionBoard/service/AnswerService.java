@@ -4,6 +4,10 @@ import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.repository.UserRepository;
 import com.example.titto_backend.auth.service.BadgeService;
 import com.example.titto_backend.auth.service.ExperienceService;
+import com.example.titto_backend.common.dto.CursorPage;
+import com.example.titto_backend.common.event.BoardChangeBroadcaster;
+import com.example.titto_backend.common.event.BoardChangedEvent.Board;
+import com.example.titto_backend.common.event.BoardChangedEvent.Change;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
 import com.example.titto_backend.questionBoard.domain.Answer;
@@ -12,7 +16,15 @@ import com.example.titto_backend.questionBoard.domain.Status;
 import com.example.titto_backend.questionBoard.dto.AnswerDTO;
 import com.example.titto_backend.questionBoard.repository.AnswerRepository;
 import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import com.example.titto_backend.revision.domain.RevisionTarget;
+import com.example.titto_backend.revision.service.RevisionService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,12 +32,24 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AnswerService {
 
+    // 답변 작성 시 답변자가 얻는 경험치
+    public static final int ANSWER_EXPERIENCE = 5;
+
+    public static final int ANSWER_PAGE_SIZE = 10;
+
     private final AnswerRepository answerRepository;
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
 
     private final ExperienceService experienceService;
     private final BadgeService badgeService;
+    private final BoardChangeBroadcaster boardChangeBroadcaster;
+    private final QuestionFacetCounter questionFacetCounter;
+    private final QuestionTrendingService questionTrendingService;
+    private final UnsolvedQuestionQueue unsolvedQuestionQueue;
+    private final RevisionService revisionService;
+    private final AnswerVoteService answerVoteService;
+    private final EntityManager entityManager;
 
     @Transactional
     public AnswerDTO.Response save(AnswerDTO.Request request, Long questionId, String email) {
@@ -42,23 +66,69 @@ public class AnswerService {
                 .build();
 
         Answer savedAnswer = answerRepository.save(answer);
-        Integer updateUserCountAnswer = user.getCountAnswer() + 1;
-        user.setCountAnswer(updateUserCountAnswer);
-        question.setAnswerCount(question.getAnswerCount() + 1);
+        revisionService.recordCreate(RevisionTarget.ANSWER, savedAnswer.getId(), user, null, savedAnswer.getContent());
+        userRepository.addCountAnswer(user.getId(), 1);
+        questionRepository.addAnswerCount(questionId, 1);
+        // 답변 수는 DB에서 증감했으므로 다시 읽은 값으로 뱃지를 판단
+        entityManager.refresh(user);
         badgeService.getAnswerBadge(user, user.getCountAnswer());  // 뱃지 여부 판단
 
         // 답변을 작성한 사용자의 경험치 추가
-        experienceService.addExperience(question.getAuthor(), user, 5);
+        experienceService.addExperience(question.getAuthor(), user, ANSWER_EXPERIENCE);
+        questionTrendingService.recordAnswer(questionId, question.getDepartment());
+        boardChangeBroadcaster.publish(Board.QUESTION, Change.ANSWER_CHANGED, questionId);
 
         return new AnswerDTO.Response(savedAnswer);
     }
 
+    // 첫 페이지는 채택된 답변을 맨 앞에 두고, 이후 채택되지 않은 답변을 작성순으로 조회
+    @Transactional(readOnly = true)
+    public CursorPage<AnswerDTO.Response> findByQuestionId(Long questionId, LocalDateTime cursorDate, Long cursorId) {
+        Pageable pageable = Pageable.ofSize(ANSWER_PAGE_SIZE);
+        if (cursorDate != null && cursorId != null) {
+            CursorPage<AnswerDTO.Response> page = toCursorPage(
+                    answerRepository.findPageByQuestionIdAfter(questionId, cursorDate, cursorId, pageable));
+            answerVoteService.applyLiveCounts(page.getContent());
+            return page;
+        }
+
+        CursorPage<AnswerDTO.Response> page = toCursorPage(answerRepository.findPageByQuestionId(questionId, pageable));
+        List<AnswerDTO.Response> content = new ArrayList<>();
+        answerRepository.findAcceptedByQuestionId(questionId)
+                .ifPresent(accepted -> content.add(new AnswerDTO.Response(accepted)));
+        content.addAll(page.getContent());
+        answerVoteService.applyLiveCounts(content);
+        return new CursorPage<>(content, page.isHasNext(), page.getNextCursorDate(), page.getNextCursorId());
+    }
+
+    // 추천순 조회. 순서는 DB에 반영된 추천 수 기준이고 응답의 추천 수는 Redis의 최신 값
+    @Transactional(readOnly = true)
+    public Slice<AnswerDTO.Response> findByQuestionIdOrderByVotes(Long questionId, int page) {
+        Slice<AnswerDTO.Response> answers = answerRepository.findPageByQuestionIdOrderByVotes(questionId,
+                Pageable.ofSize(ANSWER_PAGE_SIZE).withPage(Math.max(page, 0))).map(AnswerDTO.Response::new);
+        answerVoteService.applyLiveCounts(answers.getContent());
+        return answers;
+    }
+
+    public AnswerDTO.VoteResponse vote(Long answerId, String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        int persistedCount = answerRepository.findVoteCountById(answerId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ANSWER_NOT_FOUND));
+        return answerVoteService.toggle(answerId, user.getId(), persistedCount);
+    }
+
     @Transactional
     public AnswerDTO.Response update(Long id, AnswerDTO.Request request, User user) throws CustomException {
+        // 같은 답변의 동시 수정이 수정 이력 번호를 겹쳐 쓰지 않도록 답변을 읽기 전에 잠금
+        answerRepository.lockById(id);
         Answer answer = answerRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.ANSWER_NOT_FOUND));
         validateAnswerAuthorIsLoggedInUser(answer, user);
+        String oldContent = answer.getContent();
         answer.setContent(request.getContent());
+        revisionService.recordEdit(RevisionTarget.ANSWER, id, user, null, oldContent, null, answer.getContent());
+        boardChangeBroadcaster.publish(Board.QUESTION, Change.ANSWER_CHANGED, answer.getQuestion().getId());
         return new AnswerDTO.Response(answer);
     }
 
@@ -67,16 +137,18 @@ public class AnswerService {
         Answer answer = answerRepository.findById(answerId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ANSWER_NOT_FOUND));
         validateAnswerAuthorIsLoggedInUser(answer, user);
-        user.setCountAnswer(user.getCountAnswer() - 1);  // 유저 답변 수 1 감소
+        userRepository.addCountAnswer(user.getId(), -1);  // 유저 답변 수 1 감소
 
         Question question = answer.getQuestion();
-        question.setAnswerCount(question.getAnswerCount() - 1);
+        questionRepository.addAnswerCount(question.getId(), -1);
 
         User answerAuthor = answer.getAuthor();
-        answerAuthor.setTotalExperience(answerAuthor.getTotalExperience() - 5);
-        answerAuthor.setCurrentExperience(answerAuthor.getCurrentExperience() - 5);
+        userRepository.addExperience(answerAuthor.getId(), -ANSWER_EXPERIENCE, -ANSWER_EXPERIENCE);
 
         answerRepository.deleteById(answerId);
+        revisionService.deleteHistory(RevisionTarget.ANSWER, answerId);
+        answerVoteService.removed(answerId);
+        boardChangeBroadcaster.publish(Board.QUESTION, Change.ANSWER_CHANGED, question.getId());
     }
 
     @Transactional
@@ -88,20 +160,28 @@ public class AnswerService {
         Answer answer = answerRepository.findById(answerId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ANSWER_NOT_FOUND));
 
-        if (question.isAnswerAccepted()) {
+        if (questionRepository.markAnswerAccepted(questionId, Status.SOLVED) == 0) {
             throw new CustomException(ErrorCode.CANNOT_ACCEPTED);
         }
 
         answer.setAccepted(true);
-        question.setStatus(Status.valueOf("SOLVED"));
-        question.setAnswerAccepted(true);  // 일단 임시 추가
+        questionFacetCounter.changed(question.getDepartment(), question.getStatus(), question.getDepartment(),
+                Status.SOLVED);
 
         User answerAuthor = answer.getAuthor();
-        Integer updateCountAccept = answerAuthor.getCountAccept() + 1;
-        answerAuthor.setCountAccept(updateCountAccept);
+        userRepository.addCountAccept(answerAuthor.getId(), 1);
 
         experienceService.addExperience(question.getAuthor(), answerAuthor, 35 + question.getSendExperience());
+        entityManager.refresh(answerAuthor);
         badgeService.getAcceptBadge(answerAuthor, answerAuthor.getCountAccept());
+        questionTrendingService.recordAccept(questionId, question.getDepartment());
+        unsolvedQuestionQueue.removed(questionId, question.getDepartment());
+        boardChangeBroadcaster.publish(Board.QUESTION, Change.ANSWER_CHANGED, questionId);
+    }
+
+    private CursorPage<AnswerDTO.Response> toCursorPage(Slice<Answer> answers) {
+        return CursorPage.of(answers.map(AnswerDTO.Response::new), AnswerDTO.Response::getCreateDate,
+                AnswerDTO.Response::getId);
     }
 
     private void validateQuestionAuthorIsLoggedInUser(Question question, User user) {
@@ -0,0 +1,131 @@
+package com.example.titto_backend.questionBoard.service;
+
+import com.example.titto_backend.common.util.RedisScripts;
+import com.example.titto_backend.common.util.TransactionUtil;
+import com.example.titto_backend.questionBoard.dto.AnswerDTO;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 답변 추천. 답변별 추천자 SET으로 한 사람당 한 표를 보장하고, 화면에 보여줄 추천 수는 HASH에 함께 관리한다.
+ * 추천/취소는 Redis에서만 처리하고 증감분을 대기 HASH에 모아 두었다가 주기적으로 answer.vote_count에 일괄 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerVoteService {
+
+    private static final String KEY_PREFIX = "answerVote:";
+    private static final String COUNT_KEY = KEY_PREFIX + "count";
+    private static final String PENDING_KEY = KEY_PREFIX + "pending";
+
+    // 추천 여부를 뒤집고 추천 수와 대기 증감분을 갱신. 추천 수가 없으면 DB 값과 반영 대기 중인 증감분으로 초기화
+    private static final RedisScript<List<Object>> TOGGLE_SCRIPT = RedisScripts.list("""
+            if redis.call('HEXISTS', KEYS[2], ARGV[2]) == 0 then
+                local pending = tonumber(redis.call('HGET', KEYS[3], ARGV[2]) or '0')
+                redis.call('HSET', KEYS[2], ARGV[2], tonumber(ARGV[3]) + pending)
+            end
+            local voted = 1
+            if redis.call('SREM', KEYS[1], ARGV[1]) == 1 then
+                voted = 0
+            else
+                redis.call('SADD', KEYS[1], ARGV[1])
+            end
+            local delta = voted == 1 and 1 or -1
+            redis.call('HINCRBY', KEYS[3], ARGV[2], delta)
+            return {voted, redis.call('HINCRBY', KEYS[2], ARGV[2], delta)}
+            """);
+
+    // 대기 HASH를 읽고 비우는 작업을 원자적으로 수행하여 여러 인스턴스가 같은 증감분을 중복 반영하지 않도록 함
+    private static final RedisScript<List<Object>> DRAIN_SCRIPT = RedisScripts.list("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            return entries
+            """);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // persistedCount는 DB에 저장된 추천 수. Redis에 추천 수가 없을 때 초기값으로 사용
+    public AnswerDTO.VoteResponse toggle(Long answerId, Long userId, int persistedCount) {
+        List<Object> result = stringRedisTemplate.execute(TOGGLE_SCRIPT,
+                List.of(votersKey(answerId), COUNT_KEY, PENDING_KEY), String.valueOf(userId),
+                String.valueOf(answerId), String.valueOf(persistedCount));
+        return new AnswerDTO.VoteResponse(answerId, ((Number) result.get(0)).longValue() == 1L,
+                ((Number) result.get(1)).longValue());
+    }
+
+    // 조회한 답변에 Redis의 최신 추천 수를 반영. Redis에 없는 답변은 DB 값을 그대로 사용
+    public void applyLiveCounts(List<AnswerDTO.Response> answers) {
+        if (answers.isEmpty()) {
+            return;
+        }
+        List<Object> fields = answers.stream().map(answer -> (Object) String.valueOf(answer.getId())).toList();
+        List<Object> counts = stringRedisTemplate.opsForHash().multiGet(COUNT_KEY, fields);
+        for (int i = 0; i < answers.size(); i++) {
+            Object count = counts.get(i);
+            if (count != null) {
+                answers.get(i).setVoteCount(Long.parseLong(count.toString()));
+            }
+        }
+    }
+
+    public void removed(Long answerId) {
+        removed(List.of(answerId));
+    }
+
+    public void removed(List<Long> answerIds) {
+        if (answerIds.isEmpty()) {
+            return;
+        }
+        TransactionUtil.afterCommit(() -> {
+            Object[] fields = answerIds.stream().map(String::valueOf).toArray();
+            stringRedisTemplate.delete(answerIds.stream().map(AnswerVoteService::votersKey).toList());
+            stringRedisTemplate.opsForHash().delete(COUNT_KEY, fields);
+            stringRedisTemplate.opsForHash().delete(PENDING_KEY, fields);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${answer-vote.flush-interval-ms:10000}")
+    public void flush() {
+        List<Object> entries = stringRedisTemplate.execute(DRAIN_SCRIPT, List.of(PENDING_KEY));
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> deltas = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i += 2) {
+            long delta = Long.parseLong(entries.get(i + 1).toString());
+            if (delta != 0) {
+                deltas.add(new Object[]{delta, Long.parseLong(entries.get(i).toString())});
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 증감분을 더하므로 여러 인스턴스의 반영 순서가 바뀌어도 결과가 같음
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "UPDATE answer SET vote_count = vote_count + ? WHERE answer_id = ?", deltas));
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} answer vote deltas, restoring pending deltas", deltas.size(), e);
+            deltas.forEach(delta -> stringRedisTemplate.opsForHash()
+                    .increment(PENDING_KEY, delta[1].toString(), (Long) delta[0]));
+        }
+    }
+
+    private static String votersKey(Long answerId) {
+        return KEY_PREFIX + answerId;
+    }
+
+}
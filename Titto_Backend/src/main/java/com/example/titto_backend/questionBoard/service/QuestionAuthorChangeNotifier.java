@@ -0,0 +1,28 @@
+package com.example.titto_backend.questionBoard.service;
+
+import com.example.titto_backend.common.event.BoardChangeBroadcaster;
+import com.example.titto_backend.common.event.BoardChangedEvent.Board;
+import com.example.titto_backend.common.event.BoardChangedEvent.Change;
+import com.example.titto_backend.questionBoard.repository.AnswerRepository;
+import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 질문 상세 응답에는 질문과 답변 작성자의 닉네임/레벨이 담기므로, 사용자 정보가 바뀌면 관련 질문의 캐시를 비우도록 전파
+@Component
+@RequiredArgsConstructor
+public class QuestionAuthorChangeNotifier {
+
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final BoardChangeBroadcaster boardChangeBroadcaster;
+
+    public void authorChanged(Long userId) {
+        Set<Long> questionIds = new LinkedHashSet<>(questionRepository.findIdsByAuthorId(userId));
+        questionIds.addAll(answerRepository.findQuestionIdsByAuthorId(userId));
+        questionIds.forEach(id -> boardChangeBroadcaster.publish(Board.QUESTION, Change.AUTHOR_CHANGED, id));
+    }
+
+}
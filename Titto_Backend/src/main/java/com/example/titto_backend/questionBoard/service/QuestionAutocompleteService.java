@@ -0,0 +1,129 @@
+package com.example.titto_backend.questionBoard.service;
+
+import com.example.titto_backend.common.event.BoardChangedEvent;
+import com.example.titto_backend.common.event.BoardChangedEvent.Board;
+import com.example.titto_backend.common.search.NgramTokenizer;
+import com.example.titto_backend.common.search.PrefixTrie;
+import com.example.titto_backend.common.search.RebuildChangeTracker;
+import com.example.titto_backend.questionBoard.dto.QuestionSuggestionDTO;
+import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 질문 제목 자동완성. 정규화한 제목을 PrefixTrie에 보관하고 조회수와 답변 수로 순위를 매긴다.
+ * 작성/수정/삭제/답변 변경은 이벤트로 즉시 반영하고, 조회수 변화는 주기적인 재구성으로 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuestionAutocompleteService {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final int ANSWER_WEIGHT = 5;
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final QuestionRepository questionRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RebuildChangeTracker changeTracker = new RebuildChangeTracker();
+    private PrefixTrie<QuestionSuggestionDTO> trie = newTrie();
+
+    public List<QuestionSuggestionDTO> suggest(String query, int size) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        int limit = Math.max(1, Math.min(size, MAX_SUGGESTIONS));
+
+        lock.readLock().lock();
+        try {
+            return List.copyOf(trie.top(prefix, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${autocomplete.rebuild-interval-ms:600000}",
+            initialDelayString = "${autocomplete.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        changeTracker.start();
+        try {
+            PrefixTrie<QuestionSuggestionDTO> rebuilt = newTrie();
+            long lastId = 0;
+            List<QuestionSuggestionDTO> chunk;
+            do {
+                chunk = questionRepository.findSuggestions(lastId, Pageable.ofSize(REBUILD_CHUNK_SIZE));
+                chunk.forEach(suggestion -> rebuilt.put(normalize(suggestion.getTitle()), suggestion));
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+            lock.writeLock().lock();
+            try {
+                trie = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Question autocomplete rebuilt with {} titles", rebuilt.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild question autocomplete", e);
+        } finally {
+            changeTracker.finish(this::refresh);
+        }
+    }
+
+    @EventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.board() != Board.QUESTION) {
+            return;
+        }
+        switch (event.change()) {
+            case CREATED, UPDATED, ANSWER_CHANGED, DELETED -> refresh(event.postId());
+            default -> {
+            }
+        }
+    }
+
+    private void refresh(Long questionId) {
+        changeTracker.changed(questionId);
+        QuestionSuggestionDTO suggestion = questionRepository.findSuggestion(questionId).orElse(null);
+
+        lock.writeLock().lock();
+        try {
+            if (suggestion == null) {
+                trie.remove(questionId);
+            } else {
+                trie.put(normalize(suggestion.getTitle()), suggestion);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static PrefixTrie<QuestionSuggestionDTO> newTrie() {
+        return new PrefixTrie<>(MAX_SUGGESTIONS, QuestionSuggestionDTO::getId,
+                suggestion -> suggestion.getViewCount() + (long) suggestion.getAnswerCount() * ANSWER_WEIGHT);
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(NgramTokenizer.normalize(text).strip()).replaceAll(" ");
+    }
+
+}
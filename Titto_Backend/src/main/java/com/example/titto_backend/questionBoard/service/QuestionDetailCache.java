@@ -0,0 +1,160 @@
+package com.example.titto_backend.questionBoard.service;
+
+import com.example.titto_backend.common.event.BoardChangedEvent;
+import com.example.titto_backend.common.event.BoardChangedEvent.Board;
+import com.example.titto_backend.common.event.BoardChangedEvent.Change;
+import com.example.titto_backend.questionBoard.dto.QuestionDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 질문 상세 조회 캐시. 인스턴스 로컬(Caffeine) -> Redis -> DB 순으로 조회한다.
+ * 변경 시 BoardChangeBroadcaster가 모든 인스턴스에 전파하고, 각 인스턴스가 Redis와 로컬 캐시를 비운다.
+ * 무효화 전에 DB에서 읽은 값이 무효화 후에 캐시에 들어가지 않도록 Redis는 질문별 버전, 로컬 캐시는 무효화 횟수를
+ * 조회 전후로 비교한다.
+ */
+@Slf4j
+@Component
+public class QuestionDetailCache {
+
+    private static final String KEY_PREFIX = "questionDetail:";
+    private static final String METRIC_NAME = "question.detail.cache";
+    private static final long LOCAL_MAX_SIZE = 1_000;
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+    private static final Duration VERSION_TTL = Duration.ofHours(1);
+
+    // 조회를 시작할 때 읽은 버전과 같을 때만 저장
+    private static final RedisScript<Long> SET_IF_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, QuestionDTO.Response> localCache;
+    private final AtomicLong localInvalidations = new AtomicLong();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public QuestionDetailCache(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(LOCAL_MAX_SIZE)
+                .expireAfterWrite(LOCAL_TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "questionDetail");
+
+        this.localHits = counter(meterRegistry, "local", "hit");
+        this.localMisses = counter(meterRegistry, "local", "miss");
+        this.redisHits = counter(meterRegistry, "redis", "hit");
+        this.redisMisses = counter(meterRegistry, "redis", "miss");
+    }
+
+    public QuestionDTO.Response get(Long questionId, Supplier<QuestionDTO.Response> loader) {
+        QuestionDTO.Response response = localCache.getIfPresent(questionId);
+        if (response != null) {
+            localHits.increment();
+            return response;
+        }
+        localMisses.increment();
+
+        long invalidations = localInvalidations.get();
+        response = readRedis(questionId);
+        if (response != null) {
+            redisHits.increment();
+        } else {
+            redisMisses.increment();
+            String version = stringRedisTemplate.opsForValue().get(versionKey(questionId));
+            response = loader.get();
+            writeRedis(questionId, response, version == null ? "0" : version);
+        }
+
+        localCache.put(questionId, response);
+        // 읽는 도중 무효화가 있었다면 방금 넣은 값이 오래된 값일 수 있으므로 다시 비움
+        if (localInvalidations.get() != invalidations) {
+            localCache.invalidate(questionId);
+        }
+        return response;
+    }
+
+    // 변경을 일으킨 인스턴스를 포함해 모든 인스턴스에서 수신됨
+    @EventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        // 조회수는 캐시된 값과 별도로 매 요청마다 반영하므로 조회수 반영으로는 캐시를 비우지 않음
+        if (event.board() != Board.QUESTION || event.change() == Change.VIEWED) {
+            return;
+        }
+        localInvalidations.incrementAndGet();
+        stringRedisTemplate.execute(INVALIDATE_SCRIPT,
+                List.of(KEY_PREFIX + event.postId(), versionKey(event.postId())),
+                String.valueOf(VERSION_TTL.toMillis()));
+        localCache.invalidate(event.postId());
+    }
+
+    private QuestionDTO.Response readRedis(Long questionId) {
+        String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + questionId);
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, QuestionDTO.Response.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read cached question detail {}", questionId, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(Long questionId, QuestionDTO.Response response, String version) {
+        try {
+            stringRedisTemplate.execute(SET_IF_VERSION_SCRIPT,
+                    List.of(KEY_PREFIX + questionId, versionKey(questionId)),
+                    version, objectMapper.writeValueAsString(response), String.valueOf(REDIS_TTL.toMillis()));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to cache question detail {}", questionId, e);
+        }
+    }
+
+    private static String versionKey(Long questionId) {
+        return KEY_PREFIX + questionId + ":version";
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder(METRIC_NAME)
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.example.titto_backend.questionBoard.service;
+
+import static com.example.titto_backend.common.facet.FacetCountService.TOTAL;
+import static com.example.titto_backend.common.facet.FacetCountService.field;
+
+import com.example.titto_backend.common.facet.FacetCountService;
+import com.example.titto_backend.common.facet.FacetCounts;
+import com.example.titto_backend.questionBoard.domain.Department;
+import com.example.titto_backend.questionBoard.domain.Question;
+import com.example.titto_backend.questionBoard.domain.Status;
+import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 질문 게시판의 전체/카테고리별/상태별 글 수
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionFacetCounter {
+
+    public static final String DEPARTMENT = "department";
+    public static final String STATUS = "status";
+
+    private static final String BOARD = "question";
+
+    private final FacetCountService facetCountService;
+    private final QuestionRepository questionRepository;
+
+    public void created(Question question) {
+        facetCountService.add(BOARD, fields(question.getDepartment(), question.getStatus()));
+    }
+
+    public void deleted(Question question) {
+        facetCountService.remove(BOARD, fields(question.getDepartment(), question.getStatus()));
+    }
+
+    public void changed(Department oldDepartment, Status oldStatus, Department newDepartment, Status newStatus) {
+        facetCountService.move(BOARD, fields(oldDepartment, oldStatus), fields(newDepartment, newStatus));
+    }
+
+    // 해시가 없으면 요청 중에 재집계하지 않고 마지막으로 읽은 값, 그것도 없으면 전체 글 수만 응답
+    public FacetCounts counts() {
+        return facetCountService.find(BOARD)
+                .or(() -> facetCountService.findLastKnown(BOARD))
+                .orElseGet(() -> new FacetCounts(questionRepository.count(), Map.of()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${facet-count.rebuild-interval-ms:600000}",
+            initialDelayString = "${facet-count.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            facetCountService.rebuild(BOARD, this::countAll);
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild question facet counts", e);
+        }
+    }
+
+    // 해시가 사라진 경우(Redis 재시작 등) 주기적인 재집계를 기다리지 않고 복구
+    @Scheduled(fixedDelayString = "${facet-count.missing-check-interval-ms:10000}")
+    public void rebuildIfMissing() {
+        if (!facetCountService.exists(BOARD)) {
+            rebuild();
+        }
+    }
+
+    private Map<String, Long> countAll() {
+        Map<String, Long> counts = new HashMap<>();
+        counts.put(TOTAL, questionRepository.count());
+        questionRepository.countGroupByDepartment()
+                .forEach(row -> counts.put(field(DEPARTMENT, (Department) row[0]), (Long) row[1]));
+        questionRepository.countGroupByStatus()
+                .forEach(row -> counts.put(field(STATUS, (Status) row[0]), (Long) row[1]));
+        return counts;
+    }
+
+    private List<String> fields(Department department, Status status) {
+        return List.of(TOTAL, field(DEPARTMENT, department), field(STATUS, status));
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.example.titto_backend.questionBoard.service;
+
+import com.example.titto_backend.common.event.BoardChangedEvent;
+import com.example.titto_backend.common.event.BoardChangedEvent.Board;
+import com.example.titto_backend.common.search.MinHashIndex;
+import com.example.titto_backend.common.search.RebuildChangeTracker;
+import com.example.titto_backend.common.search.SearchDocument;
+import com.example.titto_backend.questionBoard.dto.QuestionSummaryDTO;
+import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비슷한 질문 추천. 제목과 본문의 MinHash 서명을 메모리에 보관하고 LSH 버킷으로 후보를 찾는다.
+ * 시작 시 DB에서 재구성하고, 이후 작성/수정/삭제는 모든 인스턴스가 변경 이벤트로 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuestionRelatedService {
+
+    public static final int MAX_RELATED = 10;
+
+    // 추정 자카드 유사도가 이 값보다 낮은 후보는 우연히 같은 버킷에 들어온 것으로 보고 제외
+    private static final double MIN_SIMILARITY = 0.3;
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+
+    private final QuestionRepository questionRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RebuildChangeTracker changeTracker = new RebuildChangeTracker();
+    private MinHashIndex index = new MinHashIndex();
+
+    public List<QuestionSummaryDTO> findRelated(Long questionId, int size) {
+        int limit = clamp(size);
+        lock.readLock().lock();
+        List<Long> ids;
+        try {
+            ids = index.similar(questionId, MIN_SIMILARITY, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return questionRepository.findSummariesInOrder(ids);
+    }
+
+    // 작성 중인 글과 비슷한 기존 질문 (이미 답변된 질문이 있는지 안내할 때 사용)
+    public List<QuestionSummaryDTO> findSimilar(String title, String content, int size) {
+        int limit = clamp(size);
+        lock.readLock().lock();
+        List<Long> ids;
+        try {
+            ids = index.similar(title, content, MIN_SIMILARITY, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return questionRepository.findSummariesInOrder(ids);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        changeTracker.start();
+        try {
+            MinHashIndex rebuilt = new MinHashIndex();
+            long lastId = 0;
+            List<SearchDocument> chunk;
+            do {
+                chunk = questionRepository.findSearchDocuments(lastId, Pageable.ofSize(REBUILD_CHUNK_SIZE));
+                chunk.forEach(document -> rebuilt.put(document.id(), document.title(), document.content()));
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).id();
+                }
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+            lock.writeLock().lock();
+            try {
+                index = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Question related index rebuilt with {} documents", rebuilt.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild question related index", e);
+        } finally {
+            changeTracker.finish(this::refresh);
+        }
+    }
+
+    @EventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.board() != Board.QUESTION) {
+            return;
+        }
+        switch (event.change()) {
+            case CREATED, UPDATED, DELETED -> refresh(event.postId());
+            default -> {
+            }
+        }
+    }
+
+    private void refresh(Long questionId) {
+        changeTracker.changed(questionId);
+        SearchDocument document = questionRepository.findSearchDocument(questionId).orElse(null);
+
+        lock.writeLock().lock();
+        try {
+            if (document == null) {
+                index.remove(questionId);
+            } else {
+                index.put(document.id(), document.title(), document.content());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int clamp(int size) {
+        return Math.max(1, Math.min(size, MAX_RELATED));
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.example.titto_backend.questionBoard.service;
+
+import com.example.titto_backend.common.event.BoardChangedEvent;
+import com.example.titto_backend.common.event.BoardChangedEvent.Board;
+import com.example.titto_backend.common.search.SearchDocument;
+import com.example.titto_backend.common.search.SearchIndex;
+import com.example.titto_backend.common.search.SearchResult;
+import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+// 질문 검색 색인. 시작 시 DB에서 재구성하고, 이후 모든 인스턴스가 변경 이벤트로 갱신
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionSearchIndexer {
+
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+
+    private final QuestionRepository questionRepository;
+    private final SearchIndex searchIndex = new SearchIndex();
+
+    public boolean isReady() {
+        return searchIndex.isReady();
+    }
+
+    public SearchResult search(String keyword, Pageable pageable) {
+        return searchIndex.search(keyword, pageable);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        searchIndex.startRebuild();
+        try {
+            long lastId = 0;
+            List<SearchDocument> chunk;
+            do {
+                chunk = questionRepository.findSearchDocuments(lastId, Pageable.ofSize(REBUILD_CHUNK_SIZE));
+                searchIndex.addToRebuild(chunk);
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).id();
+                }
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+            log.info("Question search index rebuilt with {} documents", searchIndex.finishRebuild());
+        } catch (RuntimeException e) {
+            searchIndex.abortRebuild();
+            log.error("Failed to rebuild question search index", e);
+        }
+    }
+
+    @EventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.board() != Board.QUESTION) {
+            return;
+        }
+        switch (event.change()) {
+            case CREATED, UPDATED -> questionRepository.findSearchDocument(event.postId())
+                    .ifPresentOrElse(searchIndex::put, () -> searchIndex.remove(event.postId()));
+            case DELETED -> searchIndex.remove(event.postId());
+            default -> {
+            }
+        }
+    }
+
+}
@@ -4,24 +4,40 @@ import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.repository.UserRepository;
 import com.example.titto_backend.auth.service.BadgeService;
 import com.example.titto_backend.auth.service.ExperienceService;
+import com.example.titto_backend.common.dto.CursorPage;
+import com.example.titto_backend.common.dto.FacetPage;
+import com.example.titto_backend.common.event.BoardChangeBroadcaster;
+import com.example.titto_backend.common.event.BoardChangedEvent.Board;
+import com.example.titto_backend.common.event.BoardChangedEvent.Change;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
-import com.example.titto_backend.common.util.RedisUtil;
-import com.example.titto_backend.questionBoard.domain.Answer;
+import com.example.titto_backend.common.facet.FacetCounts;
+import com.example.titto_backend.common.search.SearchResult;
+import com.example.titto_backend.common.viewcount.ViewCountResult;
+import com.example.titto_backend.common.viewcount.ViewCountService;
+import com.example.titto_backend.common.viewcount.ViewTarget;
 import com.example.titto_backend.questionBoard.domain.Department;
 import com.example.titto_backend.questionBoard.domain.Question;
 import com.example.titto_backend.questionBoard.domain.Status;
+import com.example.titto_backend.questionBoard.dto.AnswerDTO;
 import com.example.titto_backend.questionBoard.dto.QuestionDTO;
 import com.example.titto_backend.questionBoard.dto.QuestionDTO.Response;
+import com.example.titto_backend.questionBoard.dto.QuestionSuggestionDTO;
+import com.example.titto_backend.questionBoard.dto.QuestionSummaryDTO;
 import com.example.titto_backend.questionBoard.repository.AnswerRepository;
 import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import com.example.titto_backend.revision.domain.RevisionTarget;
+import com.example.titto_backend.revision.service.RevisionService;
+import jakarta.persistence.EntityManager;
 import java.security.Principal;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,14 +45,27 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class QuestionService {
 
+    private static final int FEED_SIZE = 10;
+
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
     private final AnswerRepository answerRepository;
 
     private final ExperienceService experienceService;
     private final AnswerService answerService;
-    private final RedisUtil redisUtil;
+    private final ViewCountService viewCountService;
     private final BadgeService badgeService;
+    private final QuestionDetailCache questionDetailCache;
+    private final BoardChangeBroadcaster boardChangeBroadcaster;
+    private final QuestionFacetCounter questionFacetCounter;
+    private final QuestionTrendingService questionTrendingService;
+    private final QuestionSearchIndexer questionSearchIndexer;
+    private final QuestionAutocompleteService questionAutocompleteService;
+    private final QuestionRelatedService questionRelatedService;
+    private final UnsolvedQuestionQueue unsolvedQuestionQueue;
+    private final RevisionService revisionService;
+    private final AnswerVoteService answerVoteService;
+    private final EntityManager entityManager;
 
     @Transactional
     public String save(String email, QuestionDTO.Request request) throws CustomException {
@@ -44,10 +73,12 @@ public class QuestionService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         experienceService.deductExperience(user, request.getSendExperience());
-        user.setCountQuestion(user.getCountQuestion() + 1);
+        userRepository.addCountQuestion(user.getId(), 1);
+        // 질문 수는 DB에서 증감했으므로 다시 읽은 값으로 뱃지를 판단
+        entityManager.refresh(user);
         badgeService.getQuestionBadge(user, user.getCountQuestion());
 
-        questionRepository.save(Question.builder()
+        Question question = questionRepository.save(Question.builder()
                 .title(request.getTitle())
                 .author(user)
                 .content(request.getContent())
@@ -58,80 +89,193 @@ public class QuestionService {
                 .answerCount(0)
                 .isAnswerAccepted(false)
                 .build());
+        questionFacetCounter.created(question);
+        unsolvedQuestionQueue.added(question);
+        revisionService.recordCreate(RevisionTarget.QUESTION, question.getId(), user, question.getTitle(),
+                question.getContent());
+        boardChangeBroadcaster.publish(Board.QUESTION, Change.CREATED, question.getId());
 
         return "질문이 성공적으로 등록되었습니다.";
     }
 
     @Transactional(readOnly = true)
-    public Page<QuestionDTO.Response> findAll(int page) {
+    public FacetPage<QuestionSummaryDTO> findAll(int page) {
         Pageable pageable = Pageable.ofSize(10).withPage(page);
-        return questionRepository.findAllByOrderByCreateDateDesc(pageable).map(QuestionDTO.Response::new);
+        FacetCounts counts = questionFacetCounter.counts();
+        return new FacetPage<>(questionRepository.findSummaries(pageable), pageable, counts.total(),
+                counts.facets());
     }
 
     @Transactional(readOnly = true)
-    public Page<QuestionDTO.Response> findByStatus(int page, String status) {
+    public FacetPage<QuestionSummaryDTO> findByStatus(int page, String status) {
         Pageable pageable = Pageable.ofSize(10).withPage(page);
-        return questionRepository.findQuestionByStatus(Status.valueOf(status), pageable).map(QuestionDTO.Response::new);
+        Status questionStatus = Status.valueOf(status);
+        FacetCounts counts = questionFacetCounter.counts();
+        return new FacetPage<>(questionRepository.findSummariesByStatus(questionStatus, pageable), pageable,
+                counts.count(QuestionFacetCounter.STATUS, questionStatus), counts.facets());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public QuestionDTO.Response findById(Principal principal, Long Id) {
         User user = userRepository.findByEmail(principal.getName())
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-        Question question = questionRepository.findById(Id)
-                .orElseThrow(() -> new CustomException(ErrorCode.QUESTION_NOT_FOUND));
-        countViews(user, question);
-        return new Response(question);
+        Response question = questionDetailCache.get(Id, () -> new Response(questionRepository.findDetailById(Id)
+                .orElseThrow(() -> new CustomException(ErrorCode.QUESTION_NOT_FOUND)),
+                answerService.findByQuestionId(Id, null, null)));
+        // 캐시된 값은 공유되므로 조회수와 추천 수의 최신 값은 복사본에만 반영
+        List<AnswerDTO.Response> answers = question.getAnswerList();
+        if (answers != null) {
+            answers = answers.stream().map(answer -> answer.toBuilder().build()).toList();
+            answerVoteService.applyLiveCounts(answers);
+        }
+        return question.toBuilder()
+                .viewCount(countViews(user, question))
+                .answerList(answers)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuestionSummaryDTO> findTrending(String category, int size) {
+        Department department = category == null ? null : Department.valueOf(category.toUpperCase());
+        return questionTrendingService.findTrending(department, size);
+    }
+
+    public List<QuestionSuggestionDTO> autocomplete(String query, int size) {
+        return questionAutocompleteService.suggest(query, size);
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuestionSummaryDTO> findRelated(Long id, int size) {
+        return questionRelatedService.findRelated(id, size);
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuestionSummaryDTO> findSimilar(QuestionDTO.Similar request, int size) {
+        return questionRelatedService.findSimilar(request.getTitle(), request.getContent(), size);
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuestionSummaryDTO> findUnsolvedQueue(String category, int page) {
+        return unsolvedQuestionQueue.findPage(Department.valueOf(category.toUpperCase()), page);
+    }
+
+    public long countTodayViewers(Long id) {
+        return viewCountService.countTodayViewers(ViewTarget.QUESTION, id);
     }
 
     @Transactional(readOnly = true)
-    public Page<QuestionDTO.Response> findByCategory(int page, String category) {
+    public FacetPage<QuestionSummaryDTO> findByCategory(int page, String category) {
         Pageable pageable = Pageable.ofSize(10).withPage(page);
-        return questionRepository.findByDepartmentOrderByCreateDateDesc(pageable,
-                        Department.valueOf(category.toUpperCase()))
-                .map(QuestionDTO.Response::new);
+        Department department = Department.valueOf(category.toUpperCase());
+        FacetCounts counts = questionFacetCounter.counts();
+        return new FacetPage<>(questionRepository.findSummariesByDepartment(department, pageable), pageable,
+                counts.count(QuestionFacetCounter.DEPARTMENT, department), counts.facets());
     }
 
     @Transactional(readOnly = true)
-    public Page<QuestionDTO.Response> searchByKeyword(String keyWord, int page) {
+    public Page<QuestionSummaryDTO> searchByKeyword(String keyWord, int page) {
         Pageable pageable = Pageable.ofSize(10).withPage(page);
-        return questionRepository.findByTitleContaining(keyWord, pageable).map(QuestionDTO.Response::new);
+        if (!questionSearchIndexer.isReady()) {
+            return questionRepository.findSummariesByTitleContaining(keyWord, pageable);
+        }
+        SearchResult result = questionSearchIndexer.search(keyWord, pageable);
+        return new PageImpl<>(questionRepository.findSummariesInOrder(result.ids()), pageable, result.total());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<QuestionSummaryDTO> findFeed(LocalDateTime cursorDate, Long cursorId) {
+        Pageable pageable = Pageable.ofSize(FEED_SIZE);
+        Slice<QuestionSummaryDTO> questions = hasCursor(cursorDate, cursorId)
+                ? questionRepository.findFeedAfter(cursorDate, cursorId, pageable)
+                : questionRepository.findFeed(pageable);
+        return toCursorPage(questions);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<QuestionSummaryDTO> findFeedByCategory(String category, LocalDateTime cursorDate,
+                                                               Long cursorId) {
+        Pageable pageable = Pageable.ofSize(FEED_SIZE);
+        Department department = Department.valueOf(category.toUpperCase());
+        Slice<QuestionSummaryDTO> questions = hasCursor(cursorDate, cursorId)
+                ? questionRepository.findFeedByDepartmentAfter(department, cursorDate, cursorId, pageable)
+                : questionRepository.findFeedByDepartment(department, pageable);
+        return toCursorPage(questions);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<QuestionSummaryDTO> findFeedByStatus(String status, LocalDateTime cursorDate,
+                                                             Long cursorId) {
+        Pageable pageable = Pageable.ofSize(FEED_SIZE);
+        Status questionStatus = Status.valueOf(status.toUpperCase());
+        Slice<QuestionSummaryDTO> questions = hasCursor(cursorDate, cursorId)
+                ? questionRepository.findFeedByStatusAfter(questionStatus, cursorDate, cursorId, pageable)
+                : questionRepository.findFeedByStatus(questionStatus, pageable);
+        return toCursorPage(questions);
+    }
+
+    private boolean hasCursor(LocalDateTime cursorDate, Long cursorId) {
+        return cursorDate != null && cursorId != null;
+    }
+
+    private CursorPage<QuestionSummaryDTO> toCursorPage(Slice<QuestionSummaryDTO> questions) {
+        return CursorPage.of(questions, QuestionSummaryDTO::getCreateDate, QuestionSummaryDTO::getId);
     }
 
     @Transactional
     public void update(QuestionDTO.Update update, Long id, User user) throws CustomException {
+        // 같은 질문의 동시 수정이 수정 이력 번호를 겹쳐 쓰지 않도록 질문을 읽기 전에 잠금
+        questionRepository.lockById(id);
         validateAuthorIsLoggedInUser(id, user);
         Question oldQuestion = questionRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.QUESTION_NOT_FOUND));
 
         experienceService.deductExperience(user, update.getSendExperience()); // 유저 경험치 차감
 
+        Department oldDepartment = oldQuestion.getDepartment();
+        String oldTitle = oldQuestion.getTitle();
+        String oldContent = oldQuestion.getContent();
         oldQuestion.update(
                 update.getTitle(),
                 update.getContent(),
                 Department.valueOf(String.valueOf(update.getDepartment())),
                 update.getSendExperience()
         );
+        questionFacetCounter.changed(oldDepartment, oldQuestion.getStatus(), oldQuestion.getDepartment(),
+                oldQuestion.getStatus());
+        questionTrendingService.moved(id, oldDepartment, oldQuestion.getDepartment());
+        unsolvedQuestionQueue.updated(oldQuestion, oldDepartment);
+        revisionService.recordEdit(RevisionTarget.QUESTION, id, user, oldTitle, oldContent, oldQuestion.getTitle(),
+                oldQuestion.getContent());
+        boardChangeBroadcaster.publish(Board.QUESTION, Change.UPDATED, id);
     }
 
     @Transactional
     public void delete(Long id, User user) {
         validateAuthorIsLoggedInUser(id, user);
-        user.setCountQuestion(user.getCountQuestion() - 1);
-
-        List<Answer> answers = answerRepository.findByQuestionId(id);
-
-        answers.forEach(answer -> {
-            User answerAuthor = answer.getAuthor();
-            answerService.delete(answer.getId(), answerAuthor);
+        userRepository.addCountQuestion(user.getId(), -1);
+        questionRepository.findById(id).ifPresent(question -> {
+            questionFacetCounter.deleted(question);
+            questionTrendingService.removed(id, question.getDepartment());
+            unsolvedQuestionQueue.removed(id, question.getDepartment());
         });
 
-        questionRepository.deleteById(id);
+        // 답변 수와 상관없이 일정한 수의 쿼리로 삭제 (답변자 통계 차감 -> 답변 삭제 -> 질문 삭제 -> 본문 삭제)
+        Optional<Long> bodyId = questionRepository.findBodyIdById(id);
+        List<Long> answerIds = answerRepository.findIdsByQuestionId(id);
+        userRepository.deductAnswerStatsByQuestionId(id, AnswerService.ANSWER_EXPERIENCE);
+        answerRepository.deleteAllByQuestionId(id);
+        revisionService.deleteHistory(RevisionTarget.ANSWER, answerIds);
+        revisionService.deleteHistory(RevisionTarget.QUESTION, id);
+        answerVoteService.removed(answerIds);
+        questionRepository.deleteQuestionById(id);
+        bodyId.ifPresent(questionRepository::deleteBodyById);
+        viewCountService.removed(ViewTarget.QUESTION, id);
+        boardChangeBroadcaster.publish(Board.QUESTION, Change.DELETED, id);
     }
 
     private void isAcceptAnswer(Question question, User user) {
         if (!question.isAnswerAccepted()) {
-            user.setCurrentExperience(user.getCurrentExperience() + question.getSendExperience());
+            userRepository.addExperience(user.getId(), 0, question.getSendExperience());
         } else {
             throw new CustomException(ErrorCode.DELETE_NOT_ALLOWED);
         }
@@ -148,28 +292,17 @@ public class QuestionService {
         }
     }
 
-    @Transactional
-    public void countViews(User user, Question question) {
-        String key = String.format("QuestionBoardViewCount:%d:%d", user.getId(), question.getId());
-        String viewCount = redisUtil.getData(key);
-
-        if (viewCount == null) {
-            redisUtil.setDateExpire(key, "1", calculateTimeUntilMidnight());
-            question.addViewCount();
-        } else {
-            int count = Integer.parseInt(viewCount);
-            if (count < 1) {
-                count++;
-                redisUtil.setDateExpire(key, String.valueOf(count), calculateTimeUntilMidnight());
-                question.addViewCount();
-            }
+    // 조회수는 Redis에 누적한 뒤 ViewCountService가 주기적으로 DB에 일괄 반영
+    private int countViews(User user, Response question) {
+        ViewCountResult result = viewCountService.record(ViewTarget.QUESTION, question.getId(), user.getId());
+        if (result.counted()) {
+            questionTrendingService.recordView(question.getId(), Department.valueOf(question.getDepartment()));
         }
-    }
-
-    public static long calculateTimeUntilMidnight() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime midnight = now.truncatedTo(ChronoUnit.DAYS).plusDays(1);
-        return ChronoUnit.SECONDS.between(now, midnight);
+        // 캐시된 조회수는 캐시에 담긴 시점의 값이므로 이후 DB에 반영된 값이 있으면 그 값을 기준으로 함
+        Long flushed = viewCountService.findFlushedCount(ViewTarget.QUESTION, question.getId());
+        int baseline = flushed == null ? question.getViewCount()
+                : Math.max(question.getViewCount(), flushed.intValue());
+        return baseline + (int) result.pendingCount();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.example.titto_backend.questionBoard.service;
+
+import com.example.titto_backend.common.util.TransactionUtil;
+import com.example.titto_backend.questionBoard.domain.Department;
+import com.example.titto_backend.questionBoard.dto.QuestionSummaryDTO;
+import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 인기 질문 순위. 전체와 카테고리별 ZSET에 조회/답변/채택 점수를 누적한다.
+ * 점수는 기준 시각(epoch) 이후 경과 시간에 따라 exp((now - epoch) / tau)배로 가중하여 더하므로
+ * 과거 점수를 매번 줄이지 않아도 최근 활동일수록 크게 반영된다. 주기적으로 전체 점수를 같은 비율로 줄이고 기준 시각을 옮긴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestionTrendingService {
+
+    public static final int MAX_SIZE = 50;
+
+    private static final String KEY_PREFIX = "questionTrending:";
+    private static final String EPOCH_KEY = KEY_PREFIX + "epoch";
+    private static final String ALL_KEY = KEY_PREFIX + "ALL";
+
+    private static final double VIEW_WEIGHT = 1;
+    private static final double ANSWER_WEIGHT = 5;
+    private static final double ACCEPT_WEIGHT = 10;
+
+    // 기준 시각 재설정 시 이 점수 미만이거나 순위 밖인 질문은 제거
+    private static final double MIN_SCORE = 0.01;
+    private static final int RETAINED_SIZE = 1_000;
+
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local epoch = tonumber(redis.call('GET', KEYS[1]))
+            if not epoch then
+                epoch = now
+                redis.call('SET', KEYS[1], now)
+            end
+            local score = tonumber(ARGV[3]) * math.exp((now - epoch) / tonumber(ARGV[2]))
+            redis.call('ZINCRBY', KEYS[2], tostring(score), ARGV[4])
+            redis.call('ZINCRBY', KEYS[3], tostring(score), ARGV[4])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> REBASE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local epoch = tonumber(redis.call('GET', KEYS[1]))
+            if epoch then
+                local factor = math.exp(-(now - epoch) / tonumber(ARGV[2]))
+                for i = 2, #KEYS do
+                    if redis.call('EXISTS', KEYS[i]) == 1 then
+                        redis.call('ZUNIONSTORE', KEYS[i], 1, KEYS[i], 'WEIGHTS', tostring(factor))
+                        redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', '(' .. ARGV[3])
+                        redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(tonumber(ARGV[4]) + 1))
+                    end
+                end
+            end
+            redis.call('SET', KEYS[1], now)
+            return 1
+            """, Long.class);
+
+    // 카테고리가 바뀐 질문의 점수를 새 카테고리 순위로 옮김
+    private static final RedisScript<Long> MOVE_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if score then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+                redis.call('ZINCRBY', KEYS[2], score, ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final QuestionRepository questionRepository;
+
+    @Value("${trending.half-life-hours:12}")
+    private long halfLifeHours;
+
+    public void recordView(Long questionId, Department department) {
+        record(questionId, department, VIEW_WEIGHT);
+    }
+
+    public void recordAnswer(Long questionId, Department department) {
+        record(questionId, department, ANSWER_WEIGHT);
+    }
+
+    public void recordAccept(Long questionId, Department department) {
+        record(questionId, department, ACCEPT_WEIGHT);
+    }
+
+    public void moved(Long questionId, Department oldDepartment, Department newDepartment) {
+        if (oldDepartment == newDepartment) {
+            return;
+        }
+        TransactionUtil.afterCommit(() -> stringRedisTemplate.execute(MOVE_SCRIPT,
+                List.of(departmentKey(oldDepartment), departmentKey(newDepartment)), String.valueOf(questionId)));
+    }
+
+    public void removed(Long questionId, Department department) {
+        TransactionUtil.afterCommit(() -> {
+            stringRedisTemplate.opsForZSet().remove(ALL_KEY, String.valueOf(questionId));
+            stringRedisTemplate.opsForZSet().remove(departmentKey(department), String.valueOf(questionId));
+        });
+    }
+
+    // 순위대로 질문 요약을 조회. 순위에 남아 있지만 삭제된 질문은 제외
+    public List<QuestionSummaryDTO> findTrending(Department department, int size) {
+        String key = department == null ? ALL_KEY : departmentKey(department);
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, 0, limit - 1);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        return questionRepository.findSummariesInOrder(members.stream().map(Long::valueOf).toList());
+    }
+
+    @Scheduled(fixedDelayString = "${trending.rebase-interval-ms:3600000}")
+    public void rebase() {
+        List<String> keys = new ArrayList<>();
+        keys.add(EPOCH_KEY);
+        keys.add(ALL_KEY);
+        Arrays.stream(Department.values()).map(this::departmentKey).forEach(keys::add);
+        stringRedisTemplate.execute(REBASE_SCRIPT, keys,
+                now(), tau(), String.valueOf(MIN_SCORE), String.valueOf(RETAINED_SIZE));
+    }
+
+    private void record(Long questionId, Department department, double weight) {
+        TransactionUtil.afterCommit(() -> stringRedisTemplate.execute(INCREMENT_SCRIPT,
+                List.of(EPOCH_KEY, ALL_KEY, departmentKey(department)),
+                now(), tau(), String.valueOf(weight), String.valueOf(questionId)));
+    }
+
+    private String departmentKey(Department department) {
+        return KEY_PREFIX + department.name();
+    }
+
+    private String now() {
+        return String.valueOf(System.currentTimeMillis() / 1000);
+    }
+
+    // 반감기를 지수 감쇠의 시간 상수(초)로 변환
+    private String tau() {
+        return String.valueOf(Duration.ofHours(halfLifeHours).toSeconds() / Math.log(2));
+    }
+
+}
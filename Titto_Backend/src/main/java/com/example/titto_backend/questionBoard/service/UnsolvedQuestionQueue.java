@@ -0,0 +1,199 @@
+package com.example.titto_backend.questionBoard.service;
+
+import com.example.titto_backend.common.util.TransactionUtil;
+import com.example.titto_backend.questionBoard.domain.Department;
+import com.example.titto_backend.questionBoard.domain.Question;
+import com.example.titto_backend.questionBoard.domain.Status;
+import com.example.titto_backend.questionBoard.dto.QuestionSummaryDTO;
+import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 답변자를 위한 카테고리별 미해결 질문 대기열. 카테고리마다 ZSET 하나에 미해결 질문만 보관하고
+ * 줄 포인트가 높은 순, 같으면 오래된 순으로 정렬하여 페이지를 순위 범위로 바로 조회한다.
+ * 작성/수정/채택/삭제 시 갱신하고, 누락을 바로잡기 위해 주기적으로 DB에서 다시 만든다.
+ * 다시 만드는 동안의 갱신이 교체로 사라지지 않도록 갱신한 질문 ID를 Redis 시각과 함께 기록해 두고,
+ * 교체할 때 재구성 시작 이후 갱신된 질문은 현재 대기열의 상태를 따른다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnsolvedQuestionQueue {
+
+    public static final int PAGE_SIZE = 10;
+
+    private static final String KEY_PREFIX = "unsolvedQueue:";
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+    private static final Duration CHANGE_LOG_RETENTION = Duration.ofHours(1);
+
+    // 질문(ARGV[1])을 점수 ARGV[2]로 넣거나, 점수가 빈 문자열이면 제거하고 갱신 시각을 기록. ARGV[3]=기록 보관 기간(ms)
+    private static final RedisScript<Long> CHANGE_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = time[1] * 1000 + math.floor(time[2] / 1000)
+            if ARGV[2] ~= '' then
+                redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            else
+                redis.call('ZREM', KEYS[1], ARGV[1])
+            end
+            redis.call('ZADD', KEYS[2], now, ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now - tonumber(ARGV[3]))
+            return 1
+            """, Long.class);
+
+    // 재구성 시작(ARGV[1]) 이후 갱신된 질문은 현재 대기열(KEYS[1])의 상태를 임시 키(KEYS[2])에 옮긴 뒤 교체
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            local changed = redis.call('ZRANGEBYSCORE', KEYS[3], ARGV[1], '+inf')
+            for _, member in ipairs(changed) do
+                local score = redis.call('ZSCORE', KEYS[1], member)
+                if score then
+                    redis.call('ZADD', KEYS[2], score, member)
+                else
+                    redis.call('ZREM', KEYS[2], member)
+                end
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('RENAME', KEYS[2], KEYS[1])
+            else
+                redis.call('DEL', KEYS[1])
+            end
+            return 1
+            """, Long.class);
+
+    // 줄 포인트를 상위 자리에, 작성 시각(초)을 음수로 하위 자리에 두어 하나의 점수로 정렬
+    private static final double EXPERIENCE_UNIT = 1e10;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final QuestionRepository questionRepository;
+
+    public void added(Question question) {
+        if (question.getStatus() != Status.UNSOLVED) {
+            return;
+        }
+        String member = String.valueOf(question.getId());
+        double score = score(question.getSendExperience(), question.getCreateDate());
+        TransactionUtil.afterCommit(() -> change(question.getDepartment(), member, String.valueOf(score)));
+    }
+
+    // 카테고리나 줄 포인트가 바뀐 질문을 다시 넣음
+    public void updated(Question question, Department oldDepartment) {
+        if (oldDepartment != question.getDepartment()) {
+            removed(question.getId(), oldDepartment);
+        }
+        added(question);
+    }
+
+    public void removed(Long questionId, Department department) {
+        TransactionUtil.afterCommit(() -> change(department, String.valueOf(questionId), ""));
+    }
+
+    // 대기열 순서대로 질문 요약을 조회. 대기열에 남아 있지만 삭제된 질문은 제외
+    public List<QuestionSummaryDTO> findPage(Department department, int page) {
+        long start = (long) Math.max(page, 0) * PAGE_SIZE;
+        Set<String> members = stringRedisTemplate.opsForZSet()
+                .reverseRange(key(department), start, start + PAGE_SIZE - 1);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        return questionRepository.findSummariesInOrder(members.stream().map(Long::valueOf).toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${unsolved-queue.rebuild-interval-ms:600000}",
+            initialDelayString = "${unsolved-queue.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            long since = redisTime();
+            Map<Department, Set<TypedTuple<String>>> queues = loadQueues();
+            queues.forEach((department, entries) -> swap(department, entries, since));
+            log.info("Unsolved question queues rebuilt");
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild unsolved question queues", e);
+        }
+    }
+
+    private Map<Department, Set<TypedTuple<String>>> loadQueues() {
+        Map<Department, Set<TypedTuple<String>>> queues = new EnumMap<>(Department.class);
+        for (Department department : Department.values()) {
+            queues.put(department, new HashSet<>());
+        }
+
+        long lastId = 0;
+        List<Object[]> chunk;
+        do {
+            chunk = questionRepository.findQueueEntries(Status.UNSOLVED, lastId, Pageable.ofSize(REBUILD_CHUNK_SIZE));
+            for (Object[] row : chunk) {
+                queues.get((Department) row[1]).add(new DefaultTypedTuple<>(String.valueOf(row[0]),
+                        score((Integer) row[2], (LocalDateTime) row[3])));
+            }
+            if (!chunk.isEmpty()) {
+                lastId = (Long) chunk.get(chunk.size() - 1)[0];
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+        return queues;
+    }
+
+    // 임시 키에 채운 뒤 교체하여 조회 중에 빈 대기열이 보이지 않도록 함. 임시 키는 재구성마다 달라 인스턴스 간 충돌이 없음
+    private void swap(Department department, Set<TypedTuple<String>> entries, long since) {
+        String key = key(department);
+        String tempKey = key + ":rebuild:" + UUID.randomUUID();
+        try {
+            if (!entries.isEmpty()) {
+                stringRedisTemplate.opsForZSet().add(tempKey, entries);
+            }
+            stringRedisTemplate.execute(SWAP_SCRIPT, List.of(key, tempKey, changeLogKey(department)),
+                    String.valueOf(since));
+        } finally {
+            stringRedisTemplate.delete(tempKey);
+        }
+    }
+
+    private void change(Department department, String member, String score) {
+        stringRedisTemplate.execute(CHANGE_SCRIPT, List.of(key(department), changeLogKey(department)),
+                member, score, String.valueOf(CHANGE_LOG_RETENTION.toMillis()));
+    }
+
+    private long redisTime() {
+        Long time = stringRedisTemplate.execute(
+                (RedisCallback<Long>) connection -> connection.serverCommands().time());
+        if (time == null) {
+            throw new IllegalStateException("Redis TIME returned no value");
+        }
+        return time;
+    }
+
+    private static double score(Integer sendExperience, LocalDateTime createDate) {
+        long experience = sendExperience == null ? 0 : sendExperience;
+        return experience * EXPERIENCE_UNIT - createDate.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static String key(Department department) {
+        return KEY_PREFIX + department.name();
+    }
+
+    private static String changeLogKey(Department department) {
+        return key(department) + ":changed";
+    }
+
+}
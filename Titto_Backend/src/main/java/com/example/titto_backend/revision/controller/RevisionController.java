@@ -0,0 +1,59 @@
+package com.example.titto_backend.revision.controller;
+
+import com.example.titto_backend.revision.domain.RevisionTarget;
+import com.example.titto_backend.revision.dto.RevisionDTO;
+import com.example.titto_backend.revision.service.RevisionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.security.Principal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/revisions")
+@Tag(name = "Revision Controller", description = "질문/답변 수정 이력 관련 API")
+public class RevisionController {
+
+    private final RevisionService revisionService;
+
+    @GetMapping("/{target}/{targetId}")
+    @Operation(
+            summary = "수정 이력 조회",
+            description = "질문(QUESTION) 또는 답변(ANSWER)의 수정 이력을 최신순으로 조회합니다. 작성자와 관리자만 조회할 수 있습니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "400", description = "조회 권한 없음"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<Slice<RevisionDTO.Summary>> getHistory(@PathVariable("target") RevisionTarget target,
+                                                                 @PathVariable("targetId") Long targetId,
+                                                                 @RequestParam(defaultValue = "0") int page,
+                                                                 Principal principal) {
+        return ResponseEntity.ok(revisionService.findHistory(target, targetId, page, principal.getName()));
+    }
+
+    @GetMapping("/{target}/{targetId}/{revisionNo}")
+    @Operation(
+            summary = "특정 버전 조회",
+            description = "질문 또는 답변의 특정 버전 내용을 복원하여 조회합니다. 작성자와 관리자만 조회할 수 있습니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "400", description = "조회 권한 없음"),
+                    @ApiResponse(responseCode = "404", description = "수정 이력을 찾을 수 없음")
+            })
+    public ResponseEntity<RevisionDTO.Detail> getRevision(@PathVariable("target") RevisionTarget target,
+                                                          @PathVariable("targetId") Long targetId,
+                                                          @PathVariable("revisionNo") int revisionNo,
+                                                          Principal principal) {
+        return ResponseEntity.ok(revisionService.findRevision(target, targetId, revisionNo, principal.getName()));
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.example.titto_backend.revision.domain;
+
+import com.example.titto_backend.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 질문/답변의 수정 이력. 일정 간격마다 전체 본문(snapshot)을, 그 사이에는 직전 버전과의 차이(delta)만 저장
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "revision", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_revision_target_no", columnNames = {"target", "target_id", "revision_no"})
+})
+public class Revision extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "revision_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target", nullable = false)
+    private RevisionTarget target;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "revision_no", nullable = false)
+    private Integer revisionNo;
+
+    // 탈퇴한 사용자의 수정 이력도 남도록 외래 키 없이 ID만 저장. 이력 기록 이전 글의 최초 버전은 null
+    @Column(name = "editor_id")
+    private Long editorId;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "snapshot", nullable = false)
+    private boolean snapshot;
+
+    // snapshot이면 전체 본문, 아니면 TextDelta 형식의 직전 버전 대비 차이
+    @Column(name = "body", nullable = false, columnDefinition = "LONGTEXT")
+    private String body;
+
+}
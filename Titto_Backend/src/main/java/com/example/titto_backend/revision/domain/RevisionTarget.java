@@ -0,0 +1,6 @@
+package com.example.titto_backend.revision.domain;
+
+public enum RevisionTarget {
+    QUESTION,
+    ANSWER
+}
@@ -0,0 +1,66 @@
+package com.example.titto_backend.revision.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class RevisionDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "수정 이력 목록")
+    public static class Summary {
+
+        @Schema(description = "버전 번호 (1부터 시작)")
+        private Integer revisionNo;
+
+        @Schema(description = "제목 (질문만 해당)")
+        private String title;
+
+        @Schema(description = "전체 본문 저장 여부")
+        private boolean snapshot;
+
+        @Schema(description = "수정한 사용자 ID")
+        private Long editorId;
+
+        @Schema(description = "수정한 사용자 닉네임")
+        private String editorNickname;
+
+        @Schema(description = "수정 일시")
+        private LocalDateTime createDate;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "특정 버전 조회")
+    public static class Detail {
+
+        @Schema(description = "버전 번호")
+        private Integer revisionNo;
+
+        @Schema(description = "제목 (질문만 해당)")
+        private String title;
+
+        @Schema(description = "해당 버전의 본문")
+        private String content;
+
+        @Schema(description = "수정한 사용자 ID")
+        private Long editorId;
+
+        @Schema(description = "수정한 사용자 닉네임")
+        private String editorNickname;
+
+        @Schema(description = "수정 일시")
+        private LocalDateTime createDate;
+    }
+
+}
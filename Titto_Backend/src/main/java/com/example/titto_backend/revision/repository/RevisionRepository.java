@@ -0,0 +1,46 @@
+package com.example.titto_backend.revision.repository;
+
+import com.example.titto_backend.revision.domain.Revision;
+import com.example.titto_backend.revision.domain.RevisionTarget;
+import com.example.titto_backend.revision.dto.RevisionDTO;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RevisionRepository extends JpaRepository<Revision, Long> {
+
+    @Query("SELECT MAX(r.revisionNo) FROM Revision r WHERE r.target = :target AND r.targetId = :targetId")
+    Optional<Integer> findLatestRevisionNo(@Param("target") RevisionTarget target, @Param("targetId") Long targetId);
+
+    // 이력 목록은 본문 없이 조회
+    @Query("SELECT new com.example.titto_backend.revision.dto.RevisionDTO$Summary("
+            + "r.revisionNo, r.title, r.snapshot, r.editorId, e.nickname, r.createDate) "
+            + "FROM Revision r LEFT JOIN User e ON e.id = r.editorId"
+            + " WHERE r.target = :target AND r.targetId = :targetId ORDER BY r.revisionNo DESC")
+    Slice<RevisionDTO.Summary> findHistory(@Param("target") RevisionTarget target,
+                                           @Param("targetId") Long targetId,
+                                           Pageable pageable);
+
+    @Query("SELECT MAX(r.revisionNo) FROM Revision r WHERE r.target = :target AND r.targetId = :targetId"
+            + " AND r.snapshot = true AND r.revisionNo <= :revisionNo")
+    Optional<Integer> findSnapshotNoAtOrBefore(@Param("target") RevisionTarget target,
+                                               @Param("targetId") Long targetId,
+                                               @Param("revisionNo") int revisionNo);
+
+    // 스냅샷부터 요청한 버전까지의 변경분을 순서대로 조회
+    @Query("SELECT r FROM Revision r WHERE r.target = :target AND r.targetId = :targetId"
+            + " AND r.revisionNo BETWEEN :from AND :to ORDER BY r.revisionNo")
+    List<Revision> findChain(@Param("target") RevisionTarget target,
+                             @Param("targetId") Long targetId,
+                             @Param("from") int from,
+                             @Param("to") int to);
+
+    @Modifying
+    @Query("DELETE FROM Revision r WHERE r.target = :target AND r.targetId IN :targetIds")
+    int deleteByTargetIds(@Param("target") RevisionTarget target, @Param("targetIds") List<Long> targetIds);
+}
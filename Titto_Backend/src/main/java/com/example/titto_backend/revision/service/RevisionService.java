@@ -0,0 +1,170 @@
+package com.example.titto_backend.revision.service;
+
+import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.auth.repository.UserRepository;
+import com.example.titto_backend.common.exception.CustomException;
+import com.example.titto_backend.common.exception.ErrorCode;
+import com.example.titto_backend.questionBoard.repository.AnswerRepository;
+import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import com.example.titto_backend.revision.domain.Revision;
+import com.example.titto_backend.revision.domain.RevisionTarget;
+import com.example.titto_backend.revision.dto.RevisionDTO;
+import com.example.titto_backend.revision.repository.RevisionRepository;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 질문/답변 수정 이력. SNAPSHOT_INTERVAL 버전마다 전체 본문을 저장하고, 그 사이 버전은 직전 버전과의
+ * 줄 단위 차이만 저장한다. 특정 버전은 가장 가까운 이전 스냅샷에 차이를 차례로 적용해 복원한다.
+ * 이력에는 작성자가 지운 내용도 남으므로 글 작성자와 관리자(revision.moderator-ids)만 조회할 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RevisionService {
+
+    public static final int HISTORY_PAGE_SIZE = 20;
+
+    // 복원 시 적용할 차이가 최대 SNAPSHOT_INTERVAL - 1개로 제한됨
+    private static final int SNAPSHOT_INTERVAL = 10;
+
+    private final RevisionRepository revisionRepository;
+    private final UserRepository userRepository;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+
+    @Value("${revision.moderator-ids:1}")
+    private Set<Long> moderatorIds;
+
+    // 글 작성 시 최초 버전 기록
+    @Transactional
+    public void recordCreate(RevisionTarget target, Long targetId, User author, String title, String content) {
+        revisionRepository.save(snapshot(target, targetId, 1, author, title, content));
+    }
+
+    // 수정 직전 내용과 수정된 내용을 받아 새 버전을 기록. 버전 번호가 겹치지 않도록 호출하는 쪽에서
+    // 대상 글을 수정 전에 lockById로 잠가 같은 글의 수정이 차례로 기록되게 해야 함
+    @Transactional
+    public void recordEdit(RevisionTarget target, Long targetId, User editor, String oldTitle, String oldContent,
+                           String newTitle, String newContent) {
+        if (Objects.equals(oldTitle, newTitle) && Objects.equals(oldContent, newContent)) {
+            return;
+        }
+
+        // 이력 기록 이전에 작성된 글은 수정 직전 내용을 최초 버전으로 남김
+        int latest = revisionRepository.findLatestRevisionNo(target, targetId).orElse(0);
+        if (latest == 0) {
+            revisionRepository.save(snapshot(target, targetId, 1, null, oldTitle, oldContent));
+            latest = 1;
+        }
+
+        int revisionNo = latest + 1;
+        String delta = TextDelta.diff(oldContent, newContent);
+        boolean snapshot = (revisionNo - 1) % SNAPSHOT_INTERVAL == 0
+                || delta.length() >= lengthOf(newContent);
+        revisionRepository.save(Revision.builder()
+                .target(target)
+                .targetId(targetId)
+                .revisionNo(revisionNo)
+                .editorId(editor == null ? null : editor.getId())
+                .title(newTitle)
+                .snapshot(snapshot)
+                .body(snapshot ? nullToEmpty(newContent) : delta)
+                .build());
+    }
+
+    // 삭제된 글의 이전 내용이 이력으로 남지 않도록 글과 함께 삭제
+    @Transactional
+    public void deleteHistory(RevisionTarget target, Long targetId) {
+        deleteHistory(target, List.of(targetId));
+    }
+
+    @Transactional
+    public void deleteHistory(RevisionTarget target, List<Long> targetIds) {
+        if (!targetIds.isEmpty()) {
+            revisionRepository.deleteByTargetIds(target, targetIds);
+        }
+    }
+
+    // 한 글의 수정 횟수는 많지 않으므로 페이지 번호로 조회하되 count 쿼리는 생략
+    @Transactional(readOnly = true)
+    public Slice<RevisionDTO.Summary> findHistory(RevisionTarget target, Long targetId, int page, String email) {
+        validateReadable(target, targetId, email);
+        return revisionRepository.findHistory(target, targetId,
+                Pageable.ofSize(HISTORY_PAGE_SIZE).withPage(Math.max(page, 0)));
+    }
+
+    @Transactional(readOnly = true)
+    public RevisionDTO.Detail findRevision(RevisionTarget target, Long targetId, int revisionNo, String email) {
+        validateReadable(target, targetId, email);
+        int snapshotNo = revisionRepository.findSnapshotNoAtOrBefore(target, targetId, revisionNo)
+                .orElseThrow(() -> new CustomException(ErrorCode.REVISION_NOT_FOUND));
+        List<Revision> chain = revisionRepository.findChain(target, targetId, snapshotNo, revisionNo);
+        Revision requested = chain.get(chain.size() - 1);
+        if (requested.getRevisionNo() != revisionNo) {
+            throw new CustomException(ErrorCode.REVISION_NOT_FOUND);
+        }
+
+        String content = chain.get(0).getBody();
+        for (Revision revision : chain.subList(1, chain.size())) {
+            content = revision.isSnapshot() ? revision.getBody() : TextDelta.apply(content, revision.getBody());
+        }
+
+        User editor = requested.getEditorId() == null ? null
+                : userRepository.findById(requested.getEditorId()).orElse(null);
+        return RevisionDTO.Detail.builder()
+                .revisionNo(revisionNo)
+                .title(requested.getTitle())
+                .content(content)
+                .editorId(requested.getEditorId())
+                .editorNickname(editor == null ? null : editor.getNickname())
+                .createDate(requested.getCreateDate())
+                .build();
+    }
+
+    private void validateReadable(RevisionTarget target, Long targetId, String email) {
+        User viewer = userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        if (moderatorIds.contains(viewer.getId())) {
+            return;
+        }
+
+        Long authorId = switch (target) {
+            case QUESTION -> questionRepository.findAuthorIdById(targetId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.QUESTION_NOT_FOUND));
+            case ANSWER -> answerRepository.findAuthorIdById(targetId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.ANSWER_NOT_FOUND));
+        };
+        if (!viewer.getId().equals(authorId)) {
+            throw new CustomException(ErrorCode.MISMATCH_AUTHOR);
+        }
+    }
+
+    private static Revision snapshot(RevisionTarget target, Long targetId, int revisionNo, User editor, String title,
+                                     String content) {
+        return Revision.builder()
+                .target(target)
+                .targetId(targetId)
+                .revisionNo(revisionNo)
+                .editorId(editor == null ? null : editor.getId())
+                .title(title)
+                .snapshot(true)
+                .body(nullToEmpty(content))
+                .build();
+    }
+
+    private static int lengthOf(String content) {
+        return content == null ? 0 : content.length();
+    }
+
+    private static String nullToEmpty(String content) {
+        return content == null ? "" : content;
+    }
+
+}
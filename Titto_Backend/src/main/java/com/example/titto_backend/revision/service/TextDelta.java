@@ -0,0 +1,182 @@
+package com.example.titto_backend.revision.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 줄 단위 텍스트 차이. 원본 줄을 복사(=N)하거나 건너뛰고(-N), 새 문자열을 넣는(+길이) 연산의 나열로 표현한다.
+ * 앞뒤 공통 줄을 먼저 잘라낸 뒤 남은 구간만 LCS로 비교하고, 구간이 너무 크면 통째로 교체한다.
+ */
+final class TextDelta {
+
+    private static final char COPY = '=';
+    private static final char SKIP = '-';
+    private static final char INSERT = '+';
+
+    // LCS 표 크기 상한 (int 100만 개, 약 4MB)
+    private static final long MAX_LCS_CELLS = 1_000_000;
+
+    private TextDelta() {
+    }
+
+    static String diff(String source, String target) {
+        List<String> a = lines(source);
+        List<String> b = lines(target);
+
+        int prefix = 0;
+        while (prefix < a.size() && prefix < b.size() && a.get(prefix).equals(b.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < a.size() - prefix && suffix < b.size() - prefix
+                && a.get(a.size() - 1 - suffix).equals(b.get(b.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        Writer writer = new Writer();
+        writer.copy(prefix);
+        List<String> oldMiddle = a.subList(prefix, a.size() - suffix);
+        List<String> newMiddle = b.subList(prefix, b.size() - suffix);
+        if ((long) oldMiddle.size() * newMiddle.size() <= MAX_LCS_CELLS) {
+            diffMiddle(oldMiddle, newMiddle, writer);
+        } else {
+            writer.skip(oldMiddle.size());
+            newMiddle.forEach(writer::insert);
+        }
+        writer.copy(suffix);
+        return writer.toString();
+    }
+
+    static String apply(String source, String delta) {
+        List<String> lines = lines(source);
+        StringBuilder result = new StringBuilder();
+        int line = 0;
+        int position = 0;
+        while (position < delta.length()) {
+            char op = delta.charAt(position);
+            int newline = delta.indexOf('\n', position);
+            int count = Integer.parseInt(delta.substring(position + 1, newline));
+            position = newline + 1;
+            switch (op) {
+                case COPY -> {
+                    for (int i = 0; i < count; i++) {
+                        result.append(lines.get(line++));
+                    }
+                }
+                case SKIP -> line += count;
+                case INSERT -> {
+                    result.append(delta, position, position + count);
+                    position += count;
+                }
+                default -> throw new IllegalArgumentException("Unknown delta operation: " + op);
+            }
+        }
+        return result.toString();
+    }
+
+    private static void diffMiddle(List<String> a, List<String> b, Writer writer) {
+        int n = a.size();
+        int m = b.size();
+        // lcs[i][j] = a[i..], b[j..]의 최장 공통 부분열 길이
+        int[][] lcs = new int[n + 1][m + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                lcs[i][j] = a.get(i).equals(b.get(j))
+                        ? lcs[i + 1][j + 1] + 1
+                        : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+            }
+        }
+
+        int i = 0;
+        int j = 0;
+        while (i < n && j < m) {
+            if (a.get(i).equals(b.get(j))) {
+                writer.copy(1);
+                i++;
+                j++;
+            } else if (lcs[i + 1][j] >= lcs[i][j + 1]) {
+                writer.skip(1);
+                i++;
+            } else {
+                writer.insert(b.get(j++));
+            }
+        }
+        writer.skip(n - i);
+        while (j < m) {
+            writer.insert(b.get(j++));
+        }
+    }
+
+    // 줄바꿈 문자를 각 줄에 포함시켜 이어 붙이면 원문이 되도록 분리
+    private static List<String> lines(String text) {
+        List<String> lines = new ArrayList<>();
+        if (text == null) {
+            return lines;
+        }
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) {
+            lines.add(text.substring(start));
+        }
+        return lines;
+    }
+
+    // 같은 연산이 이어지면 하나로 합쳐서 기록
+    private static final class Writer {
+
+        private final StringBuilder delta = new StringBuilder();
+        private final StringBuilder inserted = new StringBuilder();
+        private char pending;
+        private int count;
+
+        void copy(int lines) {
+            add(COPY, lines);
+        }
+
+        void skip(int lines) {
+            add(SKIP, lines);
+        }
+
+        void insert(String line) {
+            if (pending != INSERT) {
+                flush();
+                pending = INSERT;
+            }
+            inserted.append(line);
+        }
+
+        private void add(char op, int lines) {
+            if (lines == 0) {
+                return;
+            }
+            if (pending != op) {
+                flush();
+                pending = op;
+            }
+            count += lines;
+        }
+
+        private void flush() {
+            if (pending == INSERT) {
+                delta.append(INSERT).append(inserted.length()).append('\n').append(inserted);
+                inserted.setLength(0);
+            } else if (pending != 0) {
+                delta.append(pending).append(count).append('\n');
+            }
+            pending = 0;
+            count = 0;
+        }
+
+        @Override
+        public String toString() {
+            flush();
+            return delta.toString();
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.example.titto_backend.questionBoard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.titto_backend.auth.domain.SocialType;
+import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.auth.dto.request.SignUpDTO;
+import com.example.titto_backend.auth.repository.UserRepository;
+import com.example.titto_backend.common.dto.CursorPage;
+import com.example.titto_backend.questionBoard.domain.Answer;
+import com.example.titto_backend.questionBoard.domain.Department;
+import com.example.titto_backend.questionBoard.domain.Question;
+import com.example.titto_backend.questionBoard.domain.Status;
+import com.example.titto_backend.questionBoard.dto.AnswerDTO;
+import com.example.titto_backend.questionBoard.dto.QuestionDTO;
+import com.example.titto_backend.questionBoard.service.AnswerService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class QuestionRepositoryTest {
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void detailQueryCountDoesNotGrowWithAnswers() {
+        long statementsWithOneAnswer = countDetailStatements(1);
+        long statementsWithManyAnswers = countDetailStatements(20);
+
+        assertThat(statementsWithManyAnswers).isEqualTo(statementsWithOneAnswer);
+    }
+
+    private long countDetailStatements(int answerCount) {
+        Question question = questionRepository.save(Question.builder()
+                .title("질문 제목")
+                .author(saveUser())
+                .content("질문 내용")
+                .department(Department.SOFTWARE)
+                .status(Status.UNSOLVED)
+                .sendExperience(0)
+                .viewCount(0)
+                .answerCount(answerCount)
+                .isAnswerAccepted(false)
+                .build());
+
+        for (int i = 0; i < answerCount; i++) {
+            answerRepository.save(Answer.builder()
+                    .question(question)
+                    .author(saveUser())
+                    .content("답변 내용 " + i)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Question detail = questionRepository.findDetailById(question.getId()).orElseThrow();
+        Slice<AnswerDTO.Response> answers = answerRepository
+                .findPageByQuestionId(question.getId(), Pageable.ofSize(AnswerService.ANSWER_PAGE_SIZE))
+                .map(AnswerDTO.Response::new);
+        QuestionDTO.Response response = new QuestionDTO.Response(detail,
+                CursorPage.of(answers, AnswerDTO.Response::getCreateDate, AnswerDTO.Response::getId));
+
+        assertThat(response.getAnswerList()).hasSize(Math.min(answerCount, AnswerService.ANSWER_PAGE_SIZE));
+        assertThat(response.isHasMoreAnswers()).isEqualTo(answerCount > AnswerService.ANSWER_PAGE_SIZE);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User saveUser() {
+        String id = UUID.randomUUID().toString();
+        User user = User.builder()
+                .email(id + "@titto.world")
+                .socialId(id)
+                .socialType(SocialType.KAKAO)
+                .build();
+        user.signupUser(SignUpDTO.builder()
+                .name("테스트")
+                .nickname(id.substring(0, 8))
+                .studentNo(id.substring(0, 9))
+                .department("소프트웨어공학과")
+                .build());
+        return userRepository.save(user);
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.example.titto_backend.questionBoard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.titto_backend.auth.domain.SocialType;
+import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.auth.dto.request.SignUpDTO;
+import com.example.titto_backend.auth.repository.UserRepository;
+import com.example.titto_backend.questionBoard.domain.Department;
+import com.example.titto_backend.questionBoard.domain.Question;
+import com.example.titto_backend.questionBoard.domain.Status;
+import com.example.titto_backend.questionBoard.dto.AnswerDTO;
+import com.example.titto_backend.questionBoard.repository.AnswerRepository;
+import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class AnswerServiceConcurrencyTest {
+
+    private static final int THREAD_COUNT = 20;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> questionIds = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> bodyIds = questionIds.stream()
+                    .flatMap(id -> questionRepository.findBodyIdById(id).stream())
+                    .toList();
+            questionIds.forEach(answerRepository::deleteAllByQuestionId);
+            questionIds.forEach(questionRepository::deleteQuestionById);
+            bodyIds.forEach(questionRepository::deleteBodyById);
+            userRepository.deleteAllById(userIds);
+        });
+    }
+
+    @Test
+    void concurrentAnswersToOneQuestionAreAllCounted() throws Exception {
+        User author = saveUser();
+        Question question = saveQuestion(author);
+        List<User> answerers = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            answerers.add(saveUser());
+        }
+
+        runConcurrently(i -> answerService.save(request(question.getId()), question.getId(),
+                answerers.get(i).getEmail()));
+
+        assertThat(questionRepository.findById(question.getId()).orElseThrow().getAnswerCount())
+                .isEqualTo(THREAD_COUNT);
+    }
+
+    @Test
+    void concurrentAnswersByOneUserAreAllCounted() throws Exception {
+        User author = saveUser();
+        User answerer = saveUser();
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            questions.add(saveQuestion(author));
+        }
+
+        runConcurrently(i -> answerService.save(request(questions.get(i).getId()), questions.get(i).getId(),
+                answerer.getEmail()));
+
+        User updated = userRepository.findById(answerer.getId()).orElseThrow();
+        assertThat(updated.getCountAnswer()).isEqualTo(THREAD_COUNT);
+        assertThat(updated.getTotalExperience()).isEqualTo(THREAD_COUNT * AnswerService.ANSWER_EXPERIENCE);
+    }
+
+    // 모든 스레드가 준비된 뒤 동시에 시작
+    private void runConcurrently(IntConsumer task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                task.accept(index);
+                return null;
+            }));
+        }
+        ready.await();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+    }
+
+    private AnswerDTO.Request request(Long questionId) {
+        return AnswerDTO.Request.builder()
+                .questionId(questionId)
+                .content("답변 내용")
+                .build();
+    }
+
+    private Question saveQuestion(User author) {
+        Question question = questionRepository.save(Question.builder()
+                .title("질문 제목")
+                .author(author)
+                .content("질문 내용")
+                .department(Department.SOFTWARE)
+                .status(Status.UNSOLVED)
+                .sendExperience(0)
+                .viewCount(0)
+                .answerCount(0)
+                .isAnswerAccepted(false)
+                .build());
+        questionIds.add(question.getId());
+        return question;
+    }
+
+    private User saveUser() {
+        String id = UUID.randomUUID().toString();
+        User user = User.builder()
+                .email(id + "@titto.world")
+                .socialId(id)
+                .socialType(SocialType.KAKAO)
+                .build();
+        user.signupUser(SignUpDTO.builder()
+                .name("테스트")
+                .nickname(id.substring(0, 8))
+                .studentNo(id.substring(0, 9))
+                .department("소프트웨어공학과")
+                .build());
+        User saved = userRepository.save(user);
+        userIds.add(saved.getId());
+        return saved;
+    }
+
+}
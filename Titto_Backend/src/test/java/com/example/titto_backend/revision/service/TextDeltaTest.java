@@ -0,0 +1,70 @@
+package com.example.titto_backend.revision.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TextDeltaTest {
+
+    @Test
+    void roundTripsWithEmptyString() {
+        assertRoundTrip("", "첫 줄\n둘째 줄\n");
+        assertRoundTrip("첫 줄\n둘째 줄\n", "");
+        assertRoundTrip("", "");
+        assertThat(TextDelta.diff("", "")).isEmpty();
+    }
+
+    @Test
+    void roundTripsWithoutTrailingNewline() {
+        assertRoundTrip("a\nb\nc", "a\nb\nc\n");
+        assertRoundTrip("a\nb\nc\n", "a\nb\nc");
+        assertRoundTrip("a\nb\nc", "a\nx\nc");
+        assertRoundTrip("한 줄", "한 줄 수정");
+    }
+
+    @Test
+    void unchangedTextIsSingleCopy() {
+        String text = "a\nb\nc\n";
+
+        assertThat(TextDelta.diff(text, text)).isEqualTo("=3\n");
+    }
+
+    @Test
+    void onlyChangedMiddleIsRecorded() {
+        String source = "a\nb\nc\nd\ne\n";
+        String target = "a\nb\nx\nd\ne\n";
+
+        assertThat(TextDelta.diff(source, target)).isEqualTo("=2\n-1\n+2\nx\n=2\n");
+        assertRoundTrip(source, target);
+    }
+
+    @Test
+    void largeSectionFallsBackToReplacement() {
+        String source = "머리\n" + numberedLines("old", 1001) + "꼬리\n";
+        String target = "머리\n" + numberedLines("new", 1000) + "꼬리\n";
+
+        String delta = TextDelta.diff(source, target);
+
+        assertThat(delta).startsWith("=1\n-1001\n+").endsWith("=1\n");
+        assertRoundTrip(source, target);
+    }
+
+    @Test
+    void preservesCrlfLineEndings() {
+        assertRoundTrip("a\r\nb\r\nc\r\n", "a\r\nx\r\nc\r\n");
+        assertRoundTrip("a\r\nb\r\n", "a\nb\n");
+        assertRoundTrip("a\r\nb", "a\r\nb\r\nc");
+    }
+
+    private static void assertRoundTrip(String source, String target) {
+        assertThat(TextDelta.apply(source, TextDelta.diff(source, target))).isEqualTo(target);
+    }
+
+    private static String numberedLines(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> prefix + i + "\n")
+                .collect(Collectors.joining());
+    }
+}